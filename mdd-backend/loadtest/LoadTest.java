@@ -0,0 +1,140 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load generator: each connection sends one request at a
+ * time, as fast as the server answers, for the given duration.
+ *
+ * Usage, with the backend running:
+ *   java loadtest/LoadTest.java <url> [connections] [seconds] [token]
+ *
+ * Prints throughput and latency percentiles of the requests completed
+ * after a warm-up of a quarter of the duration.
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println(
+                "Usage: java LoadTest.java <url> [connections] [seconds] [token]"
+            );
+            System.exit(1);
+        }
+        URI uri = URI.create(args[0]);
+        int connections = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        Duration duration = Duration.ofSeconds(
+            args.length > 2 ? Long.parseLong(args[2]) : 60
+        );
+        String token = args.length > 3 ? args[3] : System.getenv("TOKEN");
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+            .timeout(Duration.ofSeconds(30))
+            .GET();
+        if (token != null && !token.isBlank()) {
+            request.header("Authorization", "Bearer " + token);
+        }
+
+        long start = System.nanoTime();
+        long measureFrom = start + duration.toNanos() / 4;
+        long end = start + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+        List<Recorder> recorders = new ArrayList<>();
+
+        try (
+            HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+            ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()
+        ) {
+            CountDownLatch done = new CountDownLatch(connections);
+            for (int i = 0; i < connections; i++) {
+                Recorder recorder = new Recorder();
+                recorders.add(recorder);
+                users.submit(() -> {
+                    try {
+                        while (System.nanoTime() < end) {
+                            long sent = System.nanoTime();
+                            boolean ok;
+                            try {
+                                HttpResponse<Void> response = client.send(
+                                    request.build(),
+                                    HttpResponse.BodyHandlers.discarding()
+                                );
+                                ok = response.statusCode() < 400;
+                            } catch (Exception e) {
+                                ok = false;
+                            }
+                            long received = System.nanoTime();
+                            if (sent >= measureFrom && received < end) {
+                                if (ok) {
+                                    recorder.add(received - sent);
+                                } else {
+                                    errors.incrementAndGet();
+                                }
+                            }
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+        }
+
+        long[] all = recorders
+            .stream()
+            .flatMapToLong(recorder ->
+                Arrays.stream(recorder.values, 0, recorder.size)
+            )
+            .sorted()
+            .toArray();
+        double seconds = (end - measureFrom) / 1e9;
+        System.out.printf(
+            "connections=%d requests=%d errors=%d throughput=%.0f req/s%n",
+            connections,
+            all.length,
+            errors.get(),
+            all.length / seconds
+        );
+        System.out.printf(
+            "latency ms: p50=%.1f p90=%.1f p99=%.1f max=%.1f%n",
+            percentile(all, 0.50),
+            percentile(all, 0.90),
+            percentile(all, 0.99),
+            all.length == 0 ? 0 : all[all.length - 1] / 1e6
+        );
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    /** Latencies of one connection, in nanoseconds. */
+    private static class Recorder {
+
+        long[] values = new long[1024];
+        int size;
+
+        void add(long latency) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = latency;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.mdd_backend.benchmarks;
+
+import com.example.mdd_backend.config.CachingJwtDecoder;
+import com.example.mdd_backend.config.CookieOrHeaderBearerTokenResolver;
+import com.example.mdd_backend.config.JWTConfig;
+import com.example.mdd_backend.services.JWTService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Measures the authentication done on every request: resolving the
+ * bearer token, decoding it and building the authentication, with and
+ * without {@link CachingJwtDecoder}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthenticationBenchmark {
+
+    private static final String SECRET =
+        "benchmarkJwtSecretKeyThatIsAtLeast32CharactersLong";
+
+    @Param({ "nimbus", "caching" })
+    private String decoder;
+
+    private CookieOrHeaderBearerTokenResolver tokenResolver;
+    private JwtAuthenticationProvider authenticationProvider;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        JWTConfig jwtConfig = new JWTConfig();
+        ReflectionTestUtils.setField(jwtConfig, "jwtSecret", SECRET);
+        JwtDecoder jwtDecoder = "caching".equals(decoder)
+            ? new CachingJwtDecoder(jwtConfig.nimbusJwtDecoder(), 10000)
+            : jwtConfig.nimbusJwtDecoder();
+        authenticationProvider = new JwtAuthenticationProvider(jwtDecoder);
+        tokenResolver = new CookieOrHeaderBearerTokenResolver();
+
+        String token = new JWTService(jwtConfig.jwtEncoder())
+            .getTokenFromUserIdentifier("alice@example.com")
+            .getToken();
+        request = new MockHttpServletRequest("GET", "/api/articles");
+        request.addHeader("Authorization", "Bearer " + token);
+    }
+
+    @Benchmark
+    public Authentication authenticate() {
+        return authenticationProvider.authenticate(
+            new BearerTokenAuthenticationToken(tokenResolver.resolve(request))
+        );
+    }
+}
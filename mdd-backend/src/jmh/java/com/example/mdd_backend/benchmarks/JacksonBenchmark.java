@@ -0,0 +1,96 @@
+package com.example.mdd_backend.benchmarks;
+
+import com.example.mdd_backend.dtos.ArticleResponseDTO;
+import com.example.mdd_backend.dtos.CommentResponseDTO;
+import com.example.mdd_backend.dtos.TopicResponseDTO;
+import com.example.mdd_backend.dtos.UserResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Measures the JSON serialization of an article as returned by the feed:
+ * author with subscriptions, topic and a first page of comments.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JacksonBenchmark {
+
+    /** Embedded comments, from none up to mdd.comments.embedded-limit. */
+    @Param({ "0", "50" })
+    private int comments;
+
+    private ObjectMapper objectMapper;
+    private ArticleResponseDTO article;
+
+    @Setup
+    public void setUp() {
+        // Same base configuration as the ObjectMapper Spring Boot creates
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<TopicResponseDTO> topics = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            TopicResponseDTO topic = new TopicResponseDTO();
+            topic.setId("6ad3b7d6bad7917d6431bd8" + i);
+            topic.setName("topic-" + i);
+            topic.setDescription("Everything about topic " + i);
+            topics.add(topic);
+        }
+
+        article = new ArticleResponseDTO();
+        article.setId("6ad3b7d6bad7917d6431bd90");
+        article.setTitle("Virtual threads in Spring Boot");
+        article.setContent("Lorem ipsum dolor sit amet. ".repeat(40));
+        article.setCreatedAt(new Date());
+        article.setAuthor(user("alice", topics));
+        article.setTopic(topics.get(0));
+
+        List<CommentResponseDTO> commentDTOs = new ArrayList<>();
+        for (int i = 0; i < comments; i++) {
+            CommentResponseDTO comment = new CommentResponseDTO();
+            comment.setId("6ad3b7d6bad7917d6431c" + String.format("%03d", i));
+            comment.setContent("Comment " + i + ", quite interesting indeed.");
+            comment.setCreatedAt(new Date());
+            comment.setAuthor(user("user-" + (i % 10), topics.subList(0, 2)));
+            commentDTOs.add(comment);
+        }
+        article.setComments(commentDTOs);
+        article.setCommentsNextCursor(comments > 0 ? "eyJjIjoiMjAyNiJ9" : null);
+    }
+
+    @Benchmark
+    public byte[] serializeArticle() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(article);
+    }
+
+    private static UserResponseDTO user(
+        String username,
+        List<TopicResponseDTO> subscriptions
+    ) {
+        UserResponseDTO user = new UserResponseDTO();
+        user.setId("6ad3b7d6bad7917d6431bd7" + username.length());
+        user.setEmail(username + "@example.com");
+        user.setUsername(username);
+        user.setSubscriptions(subscriptions);
+        return user;
+    }
+}
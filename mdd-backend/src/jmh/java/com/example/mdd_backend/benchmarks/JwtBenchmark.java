@@ -0,0 +1,61 @@
+package com.example.mdd_backend.benchmarks;
+
+import com.example.mdd_backend.config.JWTConfig;
+import com.example.mdd_backend.dtos.AuthResponseDTO;
+import com.example.mdd_backend.services.JWTService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Measures token issuing at login and the uncached token decoding, with
+ * the encoder and decoder built by {@link JWTConfig}. See
+ * {@link AuthenticationBenchmark} for the cached decoding.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private static final String SECRET =
+        "benchmarkJwtSecretKeyThatIsAtLeast32CharactersLong";
+
+    private JWTService jwtService;
+    private JwtDecoder jwtDecoder;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JWTConfig jwtConfig = new JWTConfig();
+        ReflectionTestUtils.setField(jwtConfig, "jwtSecret", SECRET);
+        jwtService = new JWTService(jwtConfig.jwtEncoder());
+        jwtDecoder = jwtConfig.nimbusJwtDecoder();
+        token = jwtService
+            .getTokenFromUserIdentifier("alice@example.com")
+            .getToken();
+    }
+
+    @Benchmark
+    public AuthResponseDTO encode() {
+        return jwtService.getTokenFromUserIdentifier("alice@example.com");
+    }
+
+    @Benchmark
+    public Jwt decode() {
+        return jwtDecoder.decode(token);
+    }
+}
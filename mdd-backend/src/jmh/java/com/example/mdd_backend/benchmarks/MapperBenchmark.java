@@ -0,0 +1,80 @@
+package com.example.mdd_backend.benchmarks;
+
+import com.example.mdd_backend.dtos.ArticleResponseDTO;
+import com.example.mdd_backend.dtos.UserResponseDTO;
+import com.example.mdd_backend.mapper.DtoMapper;
+import com.example.mdd_backend.mapper.HandWrittenDtoMapper;
+import com.example.mdd_backend.mapper.ModelMapperConfig;
+import com.example.mdd_backend.mapper.ModelMapperDtoMapper;
+import com.example.mdd_backend.models.DBArticle;
+import com.example.mdd_backend.models.DBUser;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the hand-written mapper with the ModelMapper fallback on the
+ * two mappings done for every article and user read.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({ "handwritten", "modelmapper" })
+    private String mapper;
+
+    private DtoMapper dtoMapper;
+    private DBArticle article;
+    private DBUser user;
+
+    @Setup
+    public void setUp() {
+        dtoMapper = "modelmapper".equals(mapper)
+            ? new ModelMapperDtoMapper(new ModelMapperConfig().modelMapper())
+            : new HandWrittenDtoMapper();
+
+        article = new DBArticle();
+        article.setId("6ad3b7d6bad7917d6431bd90");
+        article.setTitle("Virtual threads in Spring Boot");
+        article.setContent("Lorem ipsum dolor sit amet. ".repeat(40));
+        article.setCreatedAt(new Date());
+        article.setAuthorId("6ad3b7d6bad7917d6431bd70");
+        article.setTopicId("6ad3b7d6bad7917d6431bd80");
+        article.setCommentCount(12);
+
+        user = new DBUser();
+        user.setId("6ad3b7d6bad7917d6431bd70");
+        user.setEmail("alice@example.com");
+        user.setUsername("alice");
+        user.setPassword("$2a$10$abcdefghijklmnopqrstuv");
+        user.setSubscribedTopicIds(
+            List.of("6ad3b7d6bad7917d6431bd80", "6ad3b7d6bad7917d6431bd81")
+        );
+        user.setCreatedAt(new Date());
+    }
+
+    @Benchmark
+    public ArticleResponseDTO articleResponse() {
+        return dtoMapper.toArticleResponse(article);
+    }
+
+    @Benchmark
+    public UserResponseDTO userResponse() {
+        return dtoMapper.toUserResponse(user);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.mdd_backend.benchmarks;
+
+import com.example.mdd_backend.services.search.PrefixIndex;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures autocomplete lookups and single updates in an index of random
+ * usernames, for prefixes of increasing length.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@State(Scope.Benchmark)
+public class PrefixIndexBenchmark {
+
+    private static final int LIMIT = 10;
+
+    @Param({ "1000000" })
+    private int size;
+
+    @Param({ "a", "mar", "marti" })
+    private String prefix;
+
+    private PrefixIndex index;
+    private int updates;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Map<String, String> usernames = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            usernames.put(Integer.toString(i), username(random));
+        }
+        index = new PrefixIndex();
+        index.replaceAll(usernames);
+    }
+
+    @Benchmark
+    public List<PrefixIndex.Match> search() {
+        return index.search(prefix, LIMIT);
+    }
+
+    @Benchmark
+    public void put() {
+        index.put(Integer.toString(updates++ % size), "martin" + updates);
+    }
+
+    private static String username(Random random) {
+        char[] name = new char[6 + random.nextInt(8)];
+        for (int i = 0; i < name.length; i++) {
+            name[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(name);
+    }
+}
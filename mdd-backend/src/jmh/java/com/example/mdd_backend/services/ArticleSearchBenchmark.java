@@ -0,0 +1,170 @@
+package com.example.mdd_backend.services;
+
+import com.example.mdd_backend.dtos.ArticleSearchHitDTO;
+import com.example.mdd_backend.dtos.CursorPageResponseDTO;
+import com.example.mdd_backend.mapper.HandWrittenDtoMapper;
+import com.example.mdd_backend.models.DBArticle;
+import com.example.mdd_backend.repositories.TopicRepository;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+
+/**
+ * Measures the latency distribution, p95 included, of the first page of
+ * a full-text search over a large number of articles.
+ *
+ * Needs a MongoDB server with text search, given by the
+ * {@code mdd.benchmark.mongo-uri} system property (default
+ * mongodb://localhost:27017). Articles are made of words drawn from a
+ * fixed vocabulary with a skewed frequency, and queried with a common, a
+ * medium and a rare word. The seeded database is kept between runs and
+ * only reseeded when its size differs, as seeding a million articles and
+ * building their text index takes minutes.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArticleSearchBenchmark {
+
+    private static final String DATABASE = "mdd_benchmark_search";
+    private static final int VOCABULARY = 20_000;
+    private static final int TITLE_WORDS = 6;
+    private static final int CONTENT_WORDS = 80;
+    private static final int TOPICS = 50;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({ "1000000" })
+    private int articles;
+
+    /** Rank of the searched word in the vocabulary, by frequency. */
+    @Param({ "common", "medium", "rare" })
+    private String frequency;
+
+    private MongoClient client;
+    private ArticleSearchService searchService;
+    private String query;
+
+    @Setup
+    public void setUp() {
+        client = MongoClients.create(
+            System.getProperty(
+                "mdd.benchmark.mongo-uri",
+                "mongodb://localhost:27017"
+            )
+        );
+        MongoTemplate mongoTemplate = new MongoTemplate(client, DATABASE);
+        List<String> words = vocabulary();
+        if (mongoTemplate.count(new Query(), DBArticle.class) != articles) {
+            seed(mongoTemplate, words);
+        }
+
+        TopicService topicService = new TopicService(
+            new MongoRepositoryFactory(mongoTemplate).getRepository(
+                TopicRepository.class
+            ),
+            new HandWrittenDtoMapper(),
+            null,
+            new AutocompleteService(mongoTemplate)
+        );
+        searchService = new ArticleSearchService(
+            mongoTemplate,
+            topicService,
+            "french"
+        );
+        searchService.ensureTextIndex();
+
+        query = words.get(
+            switch (frequency) {
+                case "common" -> 10;
+                case "medium" -> 1_000;
+                default -> VOCABULARY - 10;
+            }
+        );
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public CursorPageResponseDTO<ArticleSearchHitDTO> search() {
+        return searchService.search(query, null, null, PAGE_SIZE);
+    }
+
+    private void seed(MongoTemplate mongoTemplate, List<String> words) {
+        mongoTemplate.dropCollection(DBArticle.class);
+        Random random = new Random(42);
+        List<String> topicIds = new ArrayList<>(TOPICS);
+        for (int i = 0; i < TOPICS; i++) {
+            topicIds.add(new ObjectId().toHexString());
+        }
+        long start = System.currentTimeMillis() - articles * 1_000L;
+        List<DBArticle> batch = new ArrayList<>(1000);
+        for (int i = 0; i < articles; i++) {
+            DBArticle article = new DBArticle();
+            article.setTitle(text(words, random, TITLE_WORDS));
+            article.setContent(text(words, random, CONTENT_WORDS));
+            article.setCreatedAt(new Date(start + i * 1_000L));
+            article.setAuthorId(new ObjectId().toHexString());
+            article.setTopicId(topicIds.get(i % TOPICS));
+            batch.add(article);
+            if (batch.size() == 1000) {
+                mongoTemplate.insertAll(batch);
+                batch.clear();
+            }
+        }
+        mongoTemplate.insertAll(batch);
+    }
+
+    /**
+     * Draws words with a frequency roughly inversely proportional to
+     * their rank, as in natural language.
+     */
+    private static String text(List<String> words, Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            int rank = (int) Math.pow(VOCABULARY, random.nextDouble());
+            text.append(i == 0 ? "" : " ").append(words.get(rank - 1));
+        }
+        return text.toString();
+    }
+
+    /** Letters-only words, the same on every run. */
+    private static List<String> vocabulary() {
+        Random random = new Random(7);
+        List<String> words = new ArrayList<>(VOCABULARY);
+        for (int i = 0; i < VOCABULARY; i++) {
+            StringBuilder word = new StringBuilder("m");
+            int length = 4 + random.nextInt(7);
+            for (int j = 0; j < length; j++) {
+                word.append((char) ('a' + random.nextInt(26)));
+            }
+            words.add(word.toString());
+        }
+        return words;
+    }
+}
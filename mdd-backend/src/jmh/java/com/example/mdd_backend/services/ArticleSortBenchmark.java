@@ -0,0 +1,62 @@
+package com.example.mdd_backend.services;
+
+import com.example.mdd_backend.services.articleSorting.SortByCommentCountStrategy;
+import com.example.mdd_backend.services.articleSorting.SortByDateAscStrategy;
+import com.example.mdd_backend.services.articleSorting.SortByDateDescStrategy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Measures the sort strategy lookup done by
+ * {@link ArticleService#getArticlesSorted} before every query, with the
+ * strategies in the order Spring injects them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArticleSortBenchmark {
+
+    @Param({ "date_asc", "date_desc", "most_commented" })
+    private String sortKey;
+
+    private ArticleService articleService;
+
+    @Setup
+    public void setUp() {
+        articleService = new ArticleService(
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            List.of(
+                new SortByCommentCountStrategy(),
+                new SortByDateAscStrategy(),
+                new SortByDateDescStrategy()
+            )
+        );
+    }
+
+    @Benchmark
+    public Sort sortStrategy() {
+        return articleService.getSortStrategy(sortKey).getSort();
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.mdd_backend.services;
+
+import com.example.mdd_backend.models.DBArticle;
+import com.example.mdd_backend.services.articleSorting.SortByDateDescStrategy;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
+
+/**
+ * Compares the first feed page built by {@link FeedService}, one bounded
+ * query per subscribed topic merged in memory, with the full scan it
+ * replaced: every article read, then filtered and sorted in memory.
+ *
+ * Needs a MongoDB server, given by the {@code mdd.benchmark.mongo-uri}
+ * system property (default mongodb://localhost:27017). The benchmark
+ * database is dropped and seeded before each run. Articles hold a short
+ * content, so that reading all of them fits in one reply of servers that
+ * do not split results in batches.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FeedBenchmark {
+
+    private static final String DATABASE = "mdd_benchmark";
+    private static final int TOPICS = 50;
+    private static final int PAGE_SIZE = 20;
+
+    private static final Comparator<DBArticle> NEWEST_FIRST = Comparator
+        .comparing(DBArticle::getCreatedAt)
+        .thenComparing(DBArticle::getId)
+        .reversed();
+
+    @Param({ "100000" })
+    private int articles;
+
+    @Param({ "1", "5", "20" })
+    private int subscriptions;
+
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private FeedService feedService;
+    private Set<String> subscribedTopicIds;
+
+    @Setup
+    public void setUp() {
+        client = MongoClients.create(
+            System.getProperty(
+                "mdd.benchmark.mongo-uri",
+                "mongodb://localhost:27017"
+            )
+        );
+        mongoTemplate = new MongoTemplate(client, DATABASE);
+        mongoTemplate.dropCollection(DBArticle.class);
+        mongoTemplate
+            .indexOps(DBArticle.class)
+            .ensureIndex(
+                new CompoundIndexDefinition(
+                    new Document("topicId", 1)
+                        .append("createdAt", -1)
+                        .append("_id", -1)
+                ).named("topicId_createdAt_id")
+            );
+
+        List<String> topicIds = new ArrayList<>(TOPICS);
+        for (int i = 0; i < TOPICS; i++) {
+            topicIds.add(new ObjectId().toHexString());
+        }
+        String content = "Lorem ipsum dolor sit amet. ".repeat(8);
+        long start = System.currentTimeMillis() - articles * 60_000L;
+        List<DBArticle> batch = new ArrayList<>(1000);
+        for (int i = 0; i < articles; i++) {
+            DBArticle article = new DBArticle();
+            article.setTitle("Article " + i);
+            article.setContent(content);
+            article.setCreatedAt(new Date(start + i * 60_000L));
+            article.setAuthorId(new ObjectId().toHexString());
+            article.setTopicId(topicIds.get(i % TOPICS));
+            batch.add(article);
+            if (batch.size() == 1000) {
+                mongoTemplate.insertAll(batch);
+                batch.clear();
+            }
+        }
+        mongoTemplate.insertAll(batch);
+
+        subscribedTopicIds = Set.copyOf(topicIds.subList(0, subscriptions));
+        feedService = new FeedService(
+            mongoTemplate,
+            null,
+            null,
+            null,
+            null,
+            new SortByDateDescStrategy()
+        );
+    }
+
+    @TearDown
+    public void tearDown() {
+        mongoTemplate.dropCollection(DBArticle.class);
+        client.close();
+    }
+
+    @Benchmark
+    public List<DBArticle> feed() {
+        return feedService.findSubscribedArticles(
+            subscribedTopicIds,
+            null,
+            PAGE_SIZE + 1
+        );
+    }
+
+    @Benchmark
+    public List<DBArticle> fullScan() {
+        return mongoTemplate
+            .findAll(DBArticle.class)
+            .stream()
+            .filter(article ->
+                subscribedTopicIds.contains(article.getTopicId())
+            )
+            .sorted(NEWEST_FIRST)
+            .limit(PAGE_SIZE + 1)
+            .toList();
+    }
+}
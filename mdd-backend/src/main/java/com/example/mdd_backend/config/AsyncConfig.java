@@ -0,0 +1,97 @@
+package com.example.mdd_backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    /*
+     * With spring.threads.virtual.enabled, the I/O bound executors run
+     * their tasks on virtual threads but keep their pool and queue bounds,
+     * which limit the load they put on Mongo.
+     */
+
+    @Bean
+    public ThreadPoolTaskExecutor timelineExecutor(
+        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setVirtualThreads(virtualThreads);
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("timeline-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor cascadeExecutor(
+        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setVirtualThreads(virtualThreads);
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("cascade-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Pool writing asynchronous MVC responses: streamed response bodies and
+     * the elements of reactive return values.
+     *
+     * A streamed export holds its thread for the whole download, and a
+     * pool only grows past its core size once its queue is full, so the
+     * core size is the number of streams making progress at once: it is
+     * the maximum size, and the small queue only absorbs bursts. Responses
+     * beyond it are rejected with a 503 rather than left waiting for the
+     * async timeout.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor mvcAsyncExecutor(
+        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+        @Value("${mdd.mvc.async.threads:32}") int threads,
+        @Value("${mdd.mvc.async.queue-capacity:32}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setVirtualThreads(virtualThreads);
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("mvc-async-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Pool running password hashing and verification, so that a burst of
+     * logins can't take more CPU than the available cores. Tasks beyond the
+     * queue capacity are rejected instead of waiting. Hashing is CPU bound,
+     * so this pool keeps platform threads in virtual thread mode.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashingExecutor(
+        @Value("${mdd.security.password-hashing.threads:0}") int threads,
+        @Value("${mdd.security.password-hashing.queue-capacity:64}") int queueCapacity
+    ) {
+        int poolSize = threads > 0
+            ? threads
+            : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-");
+        executor.initialize();
+        return executor;
+    }
+}
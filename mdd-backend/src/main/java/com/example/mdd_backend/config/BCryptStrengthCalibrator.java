@@ -0,0 +1,66 @@
+package com.example.mdd_backend.config;
+
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Chooses the BCrypt strength from the time one hash takes on this
+ * machine.
+ *
+ * Each strength step doubles the hashing time, so a few hashes at the
+ * minimum strength are enough to estimate the highest strength that stays
+ * within the latency target.
+ */
+public final class BCryptStrengthCalibrator {
+
+    private static final Logger logger = LoggerFactory.getLogger(
+        BCryptStrengthCalibrator.class
+    );
+
+    private static final int SAMPLES = 3;
+    private static final int MAX_BCRYPT_STRENGTH = 31;
+
+    private BCryptStrengthCalibrator() {}
+
+    /**
+     * @param target Latency target of one hash
+     * @param minStrength Strength used even if slower than the target
+     * @param maxStrength Strength never exceeded even if faster
+     * @return The highest strength whose estimated hashing time is within
+     * the target, bounded by the minimum and maximum strengths
+     */
+    public static int calibrate(
+        Duration target,
+        int minStrength,
+        int maxStrength
+    ) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration");
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+
+        int strength = minStrength;
+        long estimatedNanos = bestNanos;
+        int upperBound = Math.min(maxStrength, MAX_BCRYPT_STRENGTH);
+        while (
+            strength < upperBound &&
+            estimatedNanos * 2 <= target.toNanos()
+        ) {
+            strength++;
+            estimatedNanos *= 2;
+        }
+
+        logger.info(
+            "BCrypt strength {} (~{} ms per hash, target {} ms)",
+            strength,
+            estimatedNanos / 1_000_000,
+            target.toMillis()
+        );
+        return strength;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.mdd_backend.config;
+
+import com.example.mdd_backend.errors.exceptions.ServiceUnavailableException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Password encoder running the hashing and verification of another
+ * encoder on a bounded executor.
+ *
+ * The calling request thread waits for the result, but at most as many
+ * hashes as the executor has threads run at once, and at most its queue
+ * capacity wait. Beyond that, calls fail immediately with a
+ * {@link ServiceUnavailableException} so that clients back off instead of
+ * piling up on the request threads.
+ *
+ * Logins go through {@link #forLogin()}, which only rehashes outdated
+ * hashes when the executor has capacity to spare.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final Logger logger = LoggerFactory.getLogger(
+        BoundedPasswordEncoder.class
+    );
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolTaskExecutor executor;
+    private final long retryAfterSeconds;
+
+    public BoundedPasswordEncoder(
+        PasswordEncoder delegate,
+        ThreadPoolTaskExecutor executor,
+        long retryAfterSeconds
+    ) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * View of this encoder for DaoAuthenticationProvider, which verifies
+     * the password, then rehashes it if its hash is outdated.
+     *
+     * Verification is bounded as usual, but the rehash is best effort: it
+     * is skipped while hashes are waiting for a thread, so that an upgrade
+     * doesn't add a second hash under load, and if the executor still
+     * rejects it, {@code encode} returns null instead of failing a login
+     * whose credentials were already verified. The password service must
+     * then keep the stored hash.
+     */
+    public PasswordEncoder forLogin() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    return BoundedPasswordEncoder.this.encode(rawPassword);
+                } catch (ServiceUnavailableException e) {
+                    logger.debug("Password hashing busy, hash upgrade skipped");
+                    return null;
+                }
+            }
+
+            @Override
+            public boolean matches(
+                CharSequence rawPassword,
+                String encodedPassword
+            ) {
+                return BoundedPasswordEncoder.this.matches(
+                    rawPassword,
+                    encodedPassword
+                );
+            }
+
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                return (
+                    executor.getQueueSize() == 0 &&
+                    delegate.upgradeEncoding(encodedPassword)
+                );
+            }
+        };
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (TaskRejectedException e) {
+            logger.warn("Password hashing queue full, rejecting request");
+            throw new ServiceUnavailableException(
+                "Trop de connexions en cours, veuillez réessayer",
+                retryAfterSeconds
+            );
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.mdd_backend.config;
+
+import com.example.mdd_backend.dtos.CacheStatsDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * Decoder caching the tokens verified by another decoder.
+ *
+ * The same token is presented on every request of a session, so only its
+ * first use pays for parsing and signature verification. Entries are keyed
+ * by the SHA-256 of the token and expire at the token's exp claim.
+ *
+ * Only tokens accepted by the delegate are cached: tampered or expired
+ * tokens always reach the delegate, which rejects them.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private static final String CACHE_NAME = "jwt";
+
+    private final JwtDecoder delegate;
+    private final Cache<String, Jwt> tokensByHash;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maximumSize) {
+        this.delegate = delegate;
+        this.tokensByHash = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new UntilExpiresAt())
+            .recordStats()
+            .build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = hash(token);
+        Jwt cached = tokensByHash.getIfPresent(key);
+        if (cached != null && cached.getTokenValue().equals(token)) {
+            return cached;
+        }
+
+        Jwt jwt = delegate.decode(token);
+        if (jwt.getExpiresAt() != null) {
+            tokensByHash.put(key, jwt);
+        }
+        return jwt;
+    }
+
+    public CacheStatsDTO getStats() {
+        CacheStats stats = tokensByHash.stats();
+        return new CacheStatsDTO(
+            CACHE_NAME,
+            tokensByHash.estimatedSize(),
+            stats.hitCount(),
+            stats.missCount(),
+            stats.loadCount(),
+            stats.evictionCount()
+        );
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(
+                token.getBytes(StandardCharsets.US_ASCII)
+            );
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /** Expires each entry when its token does. */
+    private static class UntilExpiresAt implements Expiry<String, Jwt> {
+
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            return Math.max(
+                0,
+                Duration.between(Instant.now(), jwt.getExpiresAt()).toNanos()
+            );
+        }
+
+        @Override
+        public long expireAfterUpdate(
+            String key,
+            Jwt jwt,
+            long currentTime,
+            long currentDuration
+        ) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(
+            String key,
+            Jwt jwt,
+            long currentTime,
+            long currentDuration
+        ) {
+            return currentDuration;
+        }
+    }
+}
@@ -2,40 +2,40 @@ package com.example.mdd_backend.config;
 
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.oauth2.server.resource.web.BearerTokenResolver;
 import org.springframework.security.oauth2.server.resource.web.DefaultBearerTokenResolver;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
-
 @Component
 public class CookieOrHeaderBearerTokenResolver implements BearerTokenResolver {
+    private static final Logger logger = LoggerFactory.getLogger(
+        CookieOrHeaderBearerTokenResolver.class
+    );
+
     private final DefaultBearerTokenResolver defaultResolver = new DefaultBearerTokenResolver();
 
     @Override
     public String resolve(HttpServletRequest request) {
         // First, try to resolve the token from the Authorization header
         String token = defaultResolver.resolve(request);
+        if (token != null) {
+            logger.debug("JWT found in Authorization header");
+            return token;
+        }
 
         // If the token is not found in the header, check for a cookie named "token"
-        if (token == null && request.getCookies() != null) {
-            System.out.println("Checking cookies for token...");
-
-            token = Arrays.stream(request.getCookies())
-                    .filter(cookie -> "token".equals(cookie.getName()))
-                    .findFirst()
-                    .map(Cookie::getValue)
-                    .orElse(null);
-
-            if (token != null) {
-                System.out.println("JWT from cookie: " + token);
-            } else {
-                System.out.println("No token found in cookies.");
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if ("token".equals(cookie.getName())) {
+                    logger.debug("JWT found in cookie");
+                    return cookie.getValue();
+                }
             }
-        } else if (token != null) {
-            System.out.println("JWT from header: " + token);
         }
-        return token;
-
+        logger.debug("No JWT found in header or cookies");
+        return null;
     }
 }
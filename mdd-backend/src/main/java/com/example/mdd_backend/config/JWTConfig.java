@@ -17,6 +17,12 @@ public class JWTConfig {
     @Value("${jwt.secret}")
     private String jwtSecret;
 
+    @Value("${mdd.jwt.cache.enabled:true}")
+    private boolean jwtCacheEnabled;
+
+    @Value("${mdd.jwt.cache.maximum-size:10000}")
+    private long jwtCacheMaximumSize;
+
     public String getJwtSecret() {
         if (jwtSecret == null || jwtSecret.isEmpty()) {
             throw new IllegalStateException("JWT_SECRET is not defined in the .env file!");
@@ -26,6 +32,17 @@ public class JWTConfig {
 
     @Bean
     public JwtDecoder jwtDecoder() {
+        JwtDecoder decoder = nimbusJwtDecoder();
+        if (!jwtCacheEnabled) {
+            return decoder;
+        }
+        return new CachingJwtDecoder(decoder, jwtCacheMaximumSize);
+    }
+
+    /**
+     * Decoder parsing and verifying every token, without caching.
+     */
+    public NimbusJwtDecoder nimbusJwtDecoder() {
         SecretKeySpec secretKey = new SecretKeySpec(getJwtSecret().getBytes(), "HmacSHA256");
         return NimbusJwtDecoder.withSecretKey(secretKey)
                 .macAlgorithm(MacAlgorithm.HS256)
@@ -0,0 +1,44 @@
+package com.example.mdd_backend.config;
+
+import com.example.mdd_backend.monitoring.MongoCommandMonitor;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MongoConfig {
+
+    /**
+     * Sizes the driver's connection pool. Requests beyond the pool size wait
+     * for a connection up to the maximum wait time, then fail. With virtual
+     * threads, the pool rather than the request threads limits the number
+     * of concurrent queries.
+     */
+    @Bean
+    MongoClientSettingsBuilderCustomizer connectionPoolCustomizer(
+        @Value("${mdd.mongo.pool.max-size:100}") int maxSize,
+        @Value("${mdd.mongo.pool.max-wait:PT2M}") Duration maxWait
+    ) {
+        return settings ->
+            settings.applyToConnectionPoolSettings(pool ->
+                pool
+                    .maxSize(maxSize)
+                    .maxWaitTime(maxWait.toMillis(), TimeUnit.MILLISECONDS)
+            );
+    }
+
+    /**
+     * Registers the listener counting commands per request and logging
+     * slow ones. Applies to the reactive client too, whose commands are
+     * logged but not counted per request.
+     */
+    @Bean
+    MongoClientSettingsBuilderCustomizer commandMonitorCustomizer(
+        MongoCommandMonitor commandMonitor
+    ) {
+        return settings -> settings.addCommandListener(commandMonitor);
+    }
+}
@@ -1,9 +1,15 @@
 package com.example.mdd_backend.config;
 
 import com.example.mdd_backend.services.CustomUserDetailsService;
+import java.time.Duration;
 import java.util.List;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -11,7 +17,6 @@ import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -26,6 +31,28 @@ public class SecurityConfig {
         this.cookieOrHeaderBearerTokenResolver = cookieOrHeaderBearerTokenResolver;
     }
 
+    /**
+     * Lets the actuator endpoints be read without a token. They are served
+     * on the management port only, which is not published, so that
+     * Prometheus can scrape them while the application port requires
+     * authentication for every path outside the API's public ones.
+     */
+    @Bean
+    @Order(1)
+    SecurityFilterChain managementSecurity(HttpSecurity httpSecurity)
+        throws Exception {
+        httpSecurity
+            .securityMatcher(EndpointRequest.toAnyEndpoint())
+            .csrf(csrf -> csrf.disable())
+            .sessionManagement(sessionManagement ->
+                sessionManagement.sessionCreationPolicy(
+                    SessionCreationPolicy.STATELESS
+                )
+            )
+            .authorizeHttpRequests(auth -> auth.anyRequest().permitAll());
+        return httpSecurity.build();
+    }
+
     @Bean
     SecurityFilterChain apiSecurity(HttpSecurity httpSecurity)
         throws Exception {
@@ -62,14 +89,22 @@ public class SecurityConfig {
 
     @Bean
     AuthenticationManager authenticationManager(
-        CustomUserDetailsService customUserDetailsService
+        CustomUserDetailsService customUserDetailsService,
+        BoundedPasswordEncoder passwordEncoder
     ) {
         DaoAuthenticationProvider daoAuthenticationProvider =
             new DaoAuthenticationProvider();
         daoAuthenticationProvider.setUserDetailsService(
             customUserDetailsService
         );
-        daoAuthenticationProvider.setPasswordEncoder(passwordEncoder());
+        daoAuthenticationProvider.setPasswordEncoder(
+            passwordEncoder.forLogin()
+        );
+        // Rehashes passwords stored with a lower strength on login, when
+        // the hashing pool has capacity to spare
+        daoAuthenticationProvider.setUserDetailsPasswordService(
+            customUserDetailsService
+        );
         return new ProviderManager(daoAuthenticationProvider);
     }
 
@@ -90,7 +125,22 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+        @Qualifier("passwordHashingExecutor") ThreadPoolTaskExecutor passwordHashingExecutor,
+        @Value("${mdd.security.bcrypt.target-latency:PT0.1S}") Duration targetLatency,
+        @Value("${mdd.security.bcrypt.min-strength:10}") int minStrength,
+        @Value("${mdd.security.bcrypt.max-strength:14}") int maxStrength,
+        @Value("${mdd.security.password-hashing.retry-after:PT1S}") Duration retryAfter
+    ) {
+        int strength = BCryptStrengthCalibrator.calibrate(
+            targetLatency,
+            minStrength,
+            maxStrength
+        );
+        return new BoundedPasswordEncoder(
+            new BCryptPasswordEncoder(strength),
+            passwordHashingExecutor,
+            Math.max(1, retryAfter.toSeconds())
+        );
     }
 }
@@ -0,0 +1,24 @@
+package com.example.mdd_backend.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final ThreadPoolTaskExecutor mvcAsyncExecutor;
+
+    public WebMvcConfig(
+        @Qualifier("mvcAsyncExecutor") ThreadPoolTaskExecutor mvcAsyncExecutor
+    ) {
+        this.mvcAsyncExecutor = mvcAsyncExecutor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(mvcAsyncExecutor);
+    }
+}
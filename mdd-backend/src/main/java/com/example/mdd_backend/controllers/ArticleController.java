@@ -2,7 +2,14 @@ package com.example.mdd_backend.controllers;
 
 import com.example.mdd_backend.dtos.ArticleCreateRequestDTO;
 import com.example.mdd_backend.dtos.ArticleResponseDTO;
+import com.example.mdd_backend.dtos.ArticleSearchHitDTO;
+import com.example.mdd_backend.dtos.ArticleSummaryDTO;
+import com.example.mdd_backend.dtos.CursorPageResponseDTO;
+import com.example.mdd_backend.monitoring.QueryBudget;
+import com.example.mdd_backend.services.ArticleSearchService;
 import com.example.mdd_backend.services.ArticleService;
+import com.example.mdd_backend.services.FeedService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
@@ -10,6 +17,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * The type Article controller.
@@ -20,9 +28,20 @@ import org.springframework.web.bind.annotation.*;
 public class ArticleController {
 
     private final ArticleService articleService;
+    private final ArticleSearchService articleSearchService;
+    private final FeedService feedService;
+    private final ObjectMapper objectMapper;
 
-    public ArticleController(ArticleService articleService) {
+    public ArticleController(
+        ArticleService articleService,
+        ArticleSearchService articleSearchService,
+        FeedService feedService,
+        ObjectMapper objectMapper
+    ) {
         this.articleService = articleService;
+        this.articleSearchService = articleSearchService;
+        this.feedService = feedService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -69,6 +88,111 @@ public class ArticleController {
         return new ResponseEntity<>(articles, HttpStatus.OK);
     }
 
+    /**
+     * Streams all articles as newline-delimited JSON.
+     * The response is written incrementally, one batch of articles at a time.
+     *
+     * @param sortOrder the sort order
+     * @return the streamed articles, one JSON object per line
+     */
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllArticles(
+        @RequestParam(name = "sort", defaultValue = "date_asc") String sortOrder
+    ) {
+        return NdjsonResponses.of(
+            articleService.streamArticlesSorted(sortOrder),
+            objectMapper
+        );
+    }
+
+    /**
+     * Gets one page of articles.
+     *
+     * @param sortOrder the sort order
+     * @param limit     the maximum number of articles in the page
+     * @param cursor    the cursor returned with the previous page, if any
+     * @return the page of articles and the cursor of the next page
+     */
+    @GetMapping(params = { "limit", "view!=summary" })
+    @QueryBudget(4)
+    public ResponseEntity<CursorPageResponseDTO<ArticleResponseDTO>> getArticlesPage(
+        @RequestParam(name = "sort", defaultValue = "date_asc") String sortOrder,
+        @RequestParam int limit,
+        @RequestParam(required = false) String cursor
+    ) {
+        CursorPageResponseDTO<ArticleResponseDTO> page =
+            articleService.getArticlesPage(sortOrder, cursor, limit);
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    /**
+     * Gets one page of article summaries: id, title, date, author username,
+     * topic name, a content excerpt and the comment count.
+     *
+     * @param sortOrder the sort order
+     * @param limit     the maximum number of articles in the page
+     * @param cursor    the cursor returned with the previous page, if any
+     * @return the page of article summaries and the cursor of the next page
+     */
+    @GetMapping(params = "view=summary")
+    @QueryBudget(3)
+    public ResponseEntity<CursorPageResponseDTO<ArticleSummaryDTO>> getArticleSummaries(
+        @RequestParam(name = "sort", defaultValue = "date_asc") String sortOrder,
+        @RequestParam(defaultValue = "20") int limit,
+        @RequestParam(required = false) String cursor
+    ) {
+        CursorPageResponseDTO<ArticleSummaryDTO> page =
+            articleService.getArticleSummariesPage(sortOrder, cursor, limit);
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    /**
+     * Gets one page of the current user's feed: the articles of the topics
+     * they are subscribed to, newest first.
+     *
+     * @param limit          the maximum number of articles in the page
+     * @param cursor         the cursor returned with the previous page, if any
+     * @param authentication the authentication
+     * @return the page of articles and the cursor of the next page
+     */
+    @GetMapping("/feed")
+    @QueryBudget(6)
+    public ResponseEntity<CursorPageResponseDTO<ArticleResponseDTO>> getFeed(
+        @RequestParam(defaultValue = "20") int limit,
+        @RequestParam(required = false) String cursor,
+        Authentication authentication
+    ) {
+        CursorPageResponseDTO<ArticleResponseDTO> page = feedService.getFeed(
+            authentication.getName(),
+            cursor,
+            limit
+        );
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    /**
+     * Searches articles by title and content, most relevant first.
+     *
+     * @param query   the words to search for
+     * @param topicId the topic to search in, if any
+     * @param limit   the maximum number of hits in the page
+     * @param cursor  the cursor returned with the previous page, if any
+     * @return the page of hits with highlighted snippets and the cursor of
+     *         the next page
+     */
+    @GetMapping("/search")
+    @QueryBudget(2)
+    public ResponseEntity<CursorPageResponseDTO<ArticleSearchHitDTO>> searchArticles(
+        @RequestParam("q") String query,
+        @RequestParam(required = false) String topicId,
+        @RequestParam(defaultValue = "20") int limit,
+        @RequestParam(required = false) String cursor
+    ) {
+        CursorPageResponseDTO<ArticleSearchHitDTO> page =
+            articleSearchService.search(query, topicId, cursor, limit);
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
     /**
      * Gets article by id.
      *
@@ -76,6 +200,7 @@ public class ArticleController {
      * @return the article by id
      */
     @GetMapping("/{id}")
+    @QueryBudget(5)
     public ResponseEntity<ArticleResponseDTO> getArticleById(
         @PathVariable String id
     ) {
@@ -0,0 +1,43 @@
+package com.example.mdd_backend.controllers;
+
+import com.example.mdd_backend.dtos.AutocompleteSuggestionDTO;
+import com.example.mdd_backend.services.AutocompleteService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/autocomplete")
+@Tag(name = "Autocomplete", description = "Name suggestions while typing")
+public class AutocompleteController {
+
+    private final AutocompleteService autocompleteService;
+
+    public AutocompleteController(AutocompleteService autocompleteService) {
+        this.autocompleteService = autocompleteService;
+    }
+
+    /**
+     * Suggests topic names or usernames starting with a prefix.
+     *
+     * @param type   "topic" or "user"
+     * @param prefix the start of the names, compared ignoring case and accents
+     * @param limit  the maximum number of suggestions
+     * @return the matching names with their IDs, in alphabetical order
+     */
+    @GetMapping
+    public ResponseEntity<List<AutocompleteSuggestionDTO>> suggest(
+        @RequestParam String type,
+        @RequestParam(defaultValue = "") String prefix,
+        @RequestParam(defaultValue = "10") int limit
+    ) {
+        List<AutocompleteSuggestionDTO> suggestions =
+            autocompleteService.suggest(type, prefix, limit);
+        return new ResponseEntity<>(suggestions, HttpStatus.OK);
+    }
+}
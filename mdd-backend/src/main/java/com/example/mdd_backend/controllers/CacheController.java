@@ -0,0 +1,51 @@
+package com.example.mdd_backend.controllers;
+
+import com.example.mdd_backend.config.CachingJwtDecoder;
+import com.example.mdd_backend.dtos.CacheStatsDTO;
+import com.example.mdd_backend.services.TopicService;
+import com.example.mdd_backend.services.UserCache;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/cache")
+@Tag(name = "Cache", description = "In-memory cache statistics")
+public class CacheController {
+
+    private final TopicService topicService;
+    private final UserCache userCache;
+    private final JwtDecoder jwtDecoder;
+
+    public CacheController(
+        TopicService topicService,
+        UserCache userCache,
+        JwtDecoder jwtDecoder
+    ) {
+        this.topicService = topicService;
+        this.userCache = userCache;
+        this.jwtDecoder = jwtDecoder;
+    }
+
+    /**
+     * Retrieves the hit and miss counters of the in-memory caches.
+     *
+     * @return ResponseEntity containing the statistics of each cache.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheStatsDTO>> getCacheStats() {
+        List<CacheStatsDTO> stats = new ArrayList<>();
+        stats.add(topicService.getCacheStats());
+        stats.add(userCache.getStats());
+        if (jwtDecoder instanceof CachingJwtDecoder cachingJwtDecoder) {
+            stats.add(cachingJwtDecoder.getStats());
+        }
+        return new ResponseEntity<>(stats, HttpStatus.OK);
+    }
+}
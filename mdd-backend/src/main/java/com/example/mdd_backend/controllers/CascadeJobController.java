@@ -0,0 +1,57 @@
+package com.example.mdd_backend.controllers;
+
+import com.example.mdd_backend.dtos.CascadeJobResponseDTO;
+import com.example.mdd_backend.services.CascadeDeletionService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/cascade-jobs")
+@Tag(
+    name = "Cascade jobs",
+    description = "Progress of background cascade deletions"
+)
+public class CascadeJobController {
+
+    private final CascadeDeletionService cascadeDeletionService;
+
+    public CascadeJobController(CascadeDeletionService cascadeDeletionService) {
+        this.cascadeDeletionService = cascadeDeletionService;
+    }
+
+    /**
+     * Retrieves the most recent cascade jobs.
+     *
+     * @return ResponseEntity containing the jobs, newest first.
+     */
+    @GetMapping
+    public ResponseEntity<List<CascadeJobResponseDTO>> getJobs() {
+        return new ResponseEntity<>(
+            cascadeDeletionService.getJobs(),
+            HttpStatus.OK
+        );
+    }
+
+    /**
+     * Retrieves the progress of a cascade job.
+     *
+     * @param id The ID of the job, as returned by the delete endpoint.
+     * @return ResponseEntity containing the job status and counters,
+     *         or an HTTP 404 Not Found status if the job is unknown.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<CascadeJobResponseDTO> getJobById(
+        @PathVariable String id
+    ) {
+        return new ResponseEntity<>(
+            cascadeDeletionService.getJob(id),
+            HttpStatus.OK
+        );
+    }
+}
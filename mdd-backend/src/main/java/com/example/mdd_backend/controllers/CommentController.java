@@ -2,7 +2,10 @@ package com.example.mdd_backend.controllers;
 
 import com.example.mdd_backend.dtos.CommentCreateRequestDTO;
 import com.example.mdd_backend.dtos.CommentResponseDTO;
+import com.example.mdd_backend.dtos.CursorPageResponseDTO;
+import com.example.mdd_backend.monitoring.QueryBudget;
 import com.example.mdd_backend.services.CommentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
@@ -10,6 +13,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/comments")
@@ -17,9 +21,14 @@ import org.springframework.web.bind.annotation.*;
 public class CommentController {
 
     private final CommentService commentService;
+    private final ObjectMapper objectMapper;
 
-    public CommentController(CommentService commentService) {
+    public CommentController(
+        CommentService commentService,
+        ObjectMapper objectMapper
+    ) {
         this.commentService = commentService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -65,6 +74,41 @@ public class CommentController {
         return new ResponseEntity<>(comments, HttpStatus.OK);
     }
 
+    /**
+     * Retrieves one page of the comments of an article, oldest first.
+     *
+     * @param articleId The ID of the article whose comments are retrieved.
+     * @param limit     The maximum number of comments in the page.
+     * @param cursor    The cursor returned with the previous page, if any.
+     * @return ResponseEntity containing the page of comments and the cursor
+     *         of the next page, or null if this is the last page.
+     */
+    @GetMapping(params = "articleId")
+    @QueryBudget(3)
+    public ResponseEntity<CursorPageResponseDTO<CommentResponseDTO>> getCommentsPage(
+        @RequestParam String articleId,
+        @RequestParam(defaultValue = "20") int limit,
+        @RequestParam(required = false) String cursor
+    ) {
+        CursorPageResponseDTO<CommentResponseDTO> page =
+            commentService.getCommentsPage(articleId, cursor, limit);
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    /**
+     * Streams all comments as newline-delimited JSON.
+     *
+     * @return ResponseEntity whose body writes the comments incrementally,
+     *         one JSON object per line.
+     */
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllComments() {
+        return NdjsonResponses.of(
+            commentService.streamAllComments(),
+            objectMapper
+        );
+    }
+
     /**
      * Retrieves a comment by its ID.
      *
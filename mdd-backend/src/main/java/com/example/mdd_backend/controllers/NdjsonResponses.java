@@ -0,0 +1,44 @@
+package com.example.mdd_backend.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Writes batches of DTOs as newline-delimited JSON, one object per line,
+ * flushing after every batch.
+ */
+final class NdjsonResponses {
+
+    static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType(
+        "application/x-ndjson"
+    );
+
+    private NdjsonResponses() {}
+
+    static <T> ResponseEntity<StreamingResponseBody> of(
+        Stream<List<T>> batches,
+        ObjectMapper objectMapper
+    ) {
+        ObjectWriter writer = objectMapper.writer();
+        StreamingResponseBody body = out -> {
+            try (batches) {
+                for (List<T> batch : (Iterable<List<T>>) batches::iterator) {
+                    for (T item : batch) {
+                        out.write(writer.writeValueAsBytes(item));
+                        out.write('\n');
+                    }
+                    out.flush();
+                }
+            }
+        };
+        return ResponseEntity.status(HttpStatus.OK)
+            .contentType(APPLICATION_NDJSON)
+            .body(body);
+    }
+}
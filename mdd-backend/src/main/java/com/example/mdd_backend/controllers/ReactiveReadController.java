@@ -0,0 +1,104 @@
+package com.example.mdd_backend.controllers;
+
+import com.example.mdd_backend.dtos.ArticleResponseDTO;
+import com.example.mdd_backend.dtos.TopicResponseDTO;
+import com.example.mdd_backend.services.ReactiveArticleService;
+import com.example.mdd_backend.services.ReactiveTopicService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive variants of the article and topic reads, enabled by the
+ * {@code reactive} profile.
+ *
+ * Responses are the same as under /api/articles and /api/topics, but the
+ * request thread is released while Mongo is queried, so both stacks can
+ * be load-tested side by side on one instance.
+ */
+@RestController
+@RequestMapping("/api/rx")
+@Profile("reactive")
+@Tag(name = "Reactive reads", description = "Non-blocking article and topic reads")
+public class ReactiveReadController {
+
+    private final ReactiveArticleService articleService;
+    private final ReactiveTopicService topicService;
+
+    public ReactiveReadController(
+        ReactiveArticleService articleService,
+        ReactiveTopicService topicService
+    ) {
+        this.articleService = articleService;
+        this.topicService = topicService;
+    }
+
+    /**
+     * Gets all articles.
+     *
+     * @param sortOrder the sort order
+     * @return the all articles, or no content if there are none
+     */
+    @GetMapping("/articles")
+    public Mono<ResponseEntity<List<ArticleResponseDTO>>> getAllArticles(
+        @RequestParam(name = "sort", defaultValue = "date_asc") String sortOrder
+    ) {
+        return articleService
+            .getArticlesSorted(sortOrder)
+            .collectList()
+            .map(articles ->
+                articles.isEmpty()
+                    ? new ResponseEntity<>(HttpStatus.NO_CONTENT)
+                    : new ResponseEntity<>(articles, HttpStatus.OK)
+            );
+    }
+
+    /**
+     * Streams all articles as newline-delimited JSON.
+     * Articles are read from the database only as fast as the client
+     * consumes them.
+     *
+     * @param sortOrder the sort order
+     * @return the streamed articles, one JSON object per line
+     */
+    @GetMapping(
+        value = "/articles/stream",
+        produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    public Flux<ArticleResponseDTO> streamAllArticles(
+        @RequestParam(name = "sort", defaultValue = "date_asc") String sortOrder
+    ) {
+        return articleService.getArticlesSorted(sortOrder);
+    }
+
+    /**
+     * Gets article by id.
+     *
+     * @param id the id
+     * @return the article by id
+     */
+    @GetMapping("/articles/{id}")
+    public Mono<ArticleResponseDTO> getArticleById(@PathVariable String id) {
+        return articleService.getArticleById(id);
+    }
+
+    /**
+     * Retrieves all topics.
+     *
+     * @return the list of topics
+     */
+    @GetMapping("/topics")
+    public Flux<TopicResponseDTO> getAllThemes() {
+        return topicService.getAllTopics();
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.mdd_backend.controllers;
 
 import com.example.mdd_backend.dtos.ArticleResponseDTO;
+import com.example.mdd_backend.dtos.CascadeJobResponseDTO;
 import com.example.mdd_backend.dtos.TopicCreateRequestDTO;
 import com.example.mdd_backend.dtos.TopicResponseDTO;
+import com.example.mdd_backend.monitoring.QueryBudget;
 import com.example.mdd_backend.services.TopicService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -73,6 +75,7 @@ public class TopicController {
      *         or an HTTP 204 No Content status if no topics are found.
      */
     @GetMapping
+    @QueryBudget(1)
     public ResponseEntity<List<TopicResponseDTO>> getAllThemes() {
         List<TopicResponseDTO> themes = topicService.getAllTopics();
 
@@ -86,12 +89,15 @@ public class TopicController {
      * Deletes a topic by its ID.
      *
      * @param id The ID of the topic to delete.
-     * @return ResponseEntity with an HTTP 200 OK status upon successful deletion.
+     * @return ResponseEntity with an HTTP 202 Accepted status and the cascade
+     *         job deleting the topic's articles and comments.
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<String> deleteThemeById(@PathVariable String id) {
-        topicService.deleteTheme(id);
+    public ResponseEntity<CascadeJobResponseDTO> deleteThemeById(
+        @PathVariable String id
+    ) {
+        CascadeJobResponseDTO job = topicService.deleteTheme(id);
 
-        return new ResponseEntity<>(HttpStatus.OK);
+        return new ResponseEntity<>(job, HttpStatus.ACCEPTED);
     }
 }
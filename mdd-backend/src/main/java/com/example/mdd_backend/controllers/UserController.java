@@ -1,9 +1,12 @@
 package com.example.mdd_backend.controllers;
 
 import com.example.mdd_backend.dtos.AuthResponseDTO;
+import com.example.mdd_backend.dtos.CascadeJobResponseDTO;
+import com.example.mdd_backend.dtos.SubscriptionsUpdateRequestDTO;
 import com.example.mdd_backend.dtos.UserCreateRequestDTO;
 import com.example.mdd_backend.dtos.UserResponseDTO;
 import com.example.mdd_backend.dtos.UserUpdateRequestDTO;
+import com.example.mdd_backend.monitoring.QueryBudget;
 import com.example.mdd_backend.services.AuthService;
 import com.example.mdd_backend.services.JWTService;
 import com.example.mdd_backend.services.UserService;
@@ -71,6 +74,7 @@ public class UserController {
      *         or an HTTP 404 Not Found status if the user is not found.
      */
     @GetMapping("/me")
+    @QueryBudget(2)
     public ResponseEntity<UserResponseDTO> getCurrentUser(
         Authentication authentication
     ) {
@@ -102,13 +106,16 @@ public class UserController {
      * Deletes a user by their ID.
      *
      * @param id The ID of the user to delete.
-     * @return ResponseEntity with an HTTP 200 OK status upon successful deletion.
+     * @return ResponseEntity with an HTTP 202 Accepted status and the cascade
+     *         job deleting the user's articles and comments.
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<String> deleteUserById(@PathVariable String id) {
-        userService.deleteUser(id);
+    public ResponseEntity<CascadeJobResponseDTO> deleteUserById(
+        @PathVariable String id
+    ) {
+        CascadeJobResponseDTO job = userService.deleteUser(id);
 
-        return new ResponseEntity<>(HttpStatus.OK);
+        return new ResponseEntity<>(job, HttpStatus.ACCEPTED);
     }
 
     /**
@@ -153,6 +160,26 @@ public class UserController {
         return new ResponseEntity<>(user, HttpStatus.OK);
     }
 
+    /**
+     * Replaces all the subscriptions of the current user.
+     *
+     * @param subscriptionsDTO The DTO containing the IDs of the topics to be subscribed to.
+     * @param authentication The authentication object representing the user.
+     * @return ResponseEntity containing the updated UserResponseDTO if successful,
+     *         or an HTTP 200 OK status.
+     */
+    @PutMapping("/me/subscriptions")
+    public ResponseEntity<UserResponseDTO> setSubscriptions(
+        @Valid @RequestBody SubscriptionsUpdateRequestDTO subscriptionsDTO,
+        Authentication authentication
+    ) {
+        UserResponseDTO user = userService.setUserSubscriptions(
+            subscriptionsDTO.getTopicIds(),
+            authentication.getName()
+        );
+        return new ResponseEntity<>(user, HttpStatus.OK);
+    }
+
     /**
      * Updates a user by their ID.
      *
@@ -16,4 +16,5 @@ public class ArticleResponseDTO {
     private UserResponseDTO author;
     private TopicResponseDTO topic;
     private List<CommentResponseDTO> comments;
+    private String commentsNextCursor;
 }
@@ -0,0 +1,21 @@
+package com.example.mdd_backend.dtos;
+
+import java.util.Date;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ArticleSearchHitDTO {
+
+    private String id;
+    private String title;
+    /** Escaped HTML title, matching words wrapped in mark elements. */
+    private String highlightedTitle;
+    /** Escaped HTML passage of the content around the first match. */
+    private String snippet;
+    private Date createdAt;
+    private String topicId;
+    private String topicName;
+    private double score;
+}
@@ -0,0 +1,18 @@
+package com.example.mdd_backend.dtos;
+
+import java.util.Date;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ArticleSummaryDTO {
+
+    private String id;
+    private String title;
+    private Date createdAt;
+    private String authorUsername;
+    private String topicName;
+    private String excerpt;
+    private long commentCount;
+}
@@ -0,0 +1,17 @@
+package com.example.mdd_backend.dtos;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class AutocompleteSuggestionDTO {
+
+    private String id;
+    private String label;
+
+    public AutocompleteSuggestionDTO(String id, String label) {
+        this.id = id;
+        this.label = label;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.mdd_backend.dtos;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class CacheStatsDTO {
+
+    private String name;
+    private long size;
+    private long hits;
+    private long misses;
+    private double hitRatio;
+    private long loads;
+    private long evictions;
+
+    public CacheStatsDTO(
+        String name,
+        long size,
+        long hits,
+        long misses,
+        long loads,
+        long evictions
+    ) {
+        this.name = name;
+        this.size = size;
+        this.hits = hits;
+        this.misses = misses;
+        this.hitRatio = hits + misses == 0
+            ? 0
+            : (double) hits / (hits + misses);
+        this.loads = loads;
+        this.evictions = evictions;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.mdd_backend.dtos;
+
+import java.util.Date;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class CascadeJobResponseDTO {
+
+    private String id;
+    private String type;
+    private String targetId;
+    private String status;
+    private Date createdAt;
+    private Date startedAt;
+    private Date finishedAt;
+    private Long durationMs;
+    private String error;
+    private long batches;
+    private long articlesDeleted;
+    private long commentsDeleted;
+    private long subscriptionsRemoved;
+    private long timelinesUpdated;
+}
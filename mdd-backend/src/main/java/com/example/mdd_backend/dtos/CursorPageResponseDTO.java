@@ -0,0 +1,18 @@
+package com.example.mdd_backend.dtos;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class CursorPageResponseDTO<T> {
+
+    private List<T> items;
+    private String nextCursor;
+
+    public CursorPageResponseDTO(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.mdd_backend.dtos;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class SubscriptionsUpdateRequestDTO {
+
+    @NotNull(message = "Topic IDs are required")
+    private List<String> topicIds;
+}
@@ -0,0 +1,7 @@
+package com.example.mdd_backend.errors.exceptions;
+
+public class QueryBudgetExceededException extends RuntimeException {
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.mdd_backend.mapper;
+
+import com.example.mdd_backend.dtos.ArticleCreateRequestDTO;
+import com.example.mdd_backend.dtos.ArticleResponseDTO;
+import com.example.mdd_backend.dtos.CommentCreateRequestDTO;
+import com.example.mdd_backend.dtos.CommentResponseDTO;
+import com.example.mdd_backend.dtos.TopicCreateRequestDTO;
+import com.example.mdd_backend.dtos.TopicResponseDTO;
+import com.example.mdd_backend.dtos.UserCreateRequestDTO;
+import com.example.mdd_backend.dtos.UserResponseDTO;
+import com.example.mdd_backend.models.DBArticle;
+import com.example.mdd_backend.models.DBComment;
+import com.example.mdd_backend.models.DBTopic;
+import com.example.mdd_backend.models.DBUser;
+
+/**
+ * Maps between database entities and DTOs.
+ *
+ * Only the fields both sides share are copied. Fields resolved from other
+ * collections (authors, topics, comments, subscriptions) and fields owned
+ * by the services (IDs, dates, hashed passwords) are left for the caller.
+ *
+ * The implementation is selected with the {@code mdd.mapper} property:
+ * {@code handwritten} (default) or {@code modelmapper}.
+ */
+public interface DtoMapper {
+    TopicResponseDTO toTopicResponse(DBTopic topic);
+
+    UserResponseDTO toUserResponse(DBUser user);
+
+    ArticleResponseDTO toArticleResponse(DBArticle article);
+
+    CommentResponseDTO toCommentResponse(DBComment comment);
+
+    DBTopic toTopic(TopicCreateRequestDTO topicDTO);
+
+    DBUser toUser(UserCreateRequestDTO userDTO);
+
+    DBArticle toArticle(ArticleCreateRequestDTO articleDTO);
+
+    DBComment toComment(CommentCreateRequestDTO commentDTO);
+}
@@ -0,0 +1,100 @@
+package com.example.mdd_backend.mapper;
+
+import com.example.mdd_backend.dtos.ArticleCreateRequestDTO;
+import com.example.mdd_backend.dtos.ArticleResponseDTO;
+import com.example.mdd_backend.dtos.CommentCreateRequestDTO;
+import com.example.mdd_backend.dtos.CommentResponseDTO;
+import com.example.mdd_backend.dtos.TopicCreateRequestDTO;
+import com.example.mdd_backend.dtos.TopicResponseDTO;
+import com.example.mdd_backend.dtos.UserCreateRequestDTO;
+import com.example.mdd_backend.dtos.UserResponseDTO;
+import com.example.mdd_backend.models.DBArticle;
+import com.example.mdd_backend.models.DBComment;
+import com.example.mdd_backend.models.DBTopic;
+import com.example.mdd_backend.models.DBUser;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper copying fields with plain getters and setters, without
+ * reflection or type map lookups. Used on every read path, so it must be
+ * kept in sync with the DTOs when fields are added.
+ */
+@Component
+@ConditionalOnProperty(
+    name = "mdd.mapper",
+    havingValue = "handwritten",
+    matchIfMissing = true
+)
+public class HandWrittenDtoMapper implements DtoMapper {
+
+    @Override
+    public TopicResponseDTO toTopicResponse(DBTopic topic) {
+        TopicResponseDTO topicDTO = new TopicResponseDTO();
+        topicDTO.setId(topic.getId());
+        topicDTO.setName(topic.getName());
+        topicDTO.setDescription(topic.getDescription());
+        return topicDTO;
+    }
+
+    @Override
+    public UserResponseDTO toUserResponse(DBUser user) {
+        UserResponseDTO userDTO = new UserResponseDTO();
+        userDTO.setId(user.getId());
+        userDTO.setEmail(user.getEmail());
+        userDTO.setUsername(user.getUsername());
+        return userDTO;
+    }
+
+    @Override
+    public ArticleResponseDTO toArticleResponse(DBArticle article) {
+        ArticleResponseDTO articleDTO = new ArticleResponseDTO();
+        articleDTO.setId(article.getId());
+        articleDTO.setTitle(article.getTitle());
+        articleDTO.setContent(article.getContent());
+        articleDTO.setCreatedAt(article.getCreatedAt());
+        return articleDTO;
+    }
+
+    @Override
+    public CommentResponseDTO toCommentResponse(DBComment comment) {
+        CommentResponseDTO commentDTO = new CommentResponseDTO();
+        commentDTO.setId(comment.getId());
+        commentDTO.setContent(comment.getContent());
+        commentDTO.setCreatedAt(comment.getCreatedAt());
+        return commentDTO;
+    }
+
+    @Override
+    public DBTopic toTopic(TopicCreateRequestDTO topicDTO) {
+        DBTopic topic = new DBTopic();
+        topic.setName(topicDTO.getName());
+        topic.setDescription(topicDTO.getDescription());
+        return topic;
+    }
+
+    @Override
+    public DBUser toUser(UserCreateRequestDTO userDTO) {
+        DBUser user = new DBUser();
+        user.setEmail(userDTO.getEmail());
+        user.setUsername(userDTO.getUsername());
+        user.setPassword(userDTO.getPassword());
+        return user;
+    }
+
+    @Override
+    public DBArticle toArticle(ArticleCreateRequestDTO articleDTO) {
+        DBArticle article = new DBArticle();
+        article.setTitle(articleDTO.getTitle());
+        article.setContent(articleDTO.getContent());
+        article.setTopicId(articleDTO.getTopicId());
+        return article;
+    }
+
+    @Override
+    public DBComment toComment(CommentCreateRequestDTO commentDTO) {
+        DBComment comment = new DBComment();
+        comment.setContent(commentDTO.getContent());
+        return comment;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.mdd_backend.mapper;
+
+import com.example.mdd_backend.dtos.ArticleCreateRequestDTO;
+import com.example.mdd_backend.dtos.ArticleResponseDTO;
+import com.example.mdd_backend.dtos.CommentCreateRequestDTO;
+import com.example.mdd_backend.dtos.CommentResponseDTO;
+import com.example.mdd_backend.dtos.TopicCreateRequestDTO;
+import com.example.mdd_backend.dtos.TopicResponseDTO;
+import com.example.mdd_backend.dtos.UserCreateRequestDTO;
+import com.example.mdd_backend.dtos.UserResponseDTO;
+import com.example.mdd_backend.models.DBArticle;
+import com.example.mdd_backend.models.DBComment;
+import com.example.mdd_backend.models.DBTopic;
+import com.example.mdd_backend.models.DBUser;
+import org.modelmapper.ModelMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reflective fallback mapper delegating to {@link ModelMapper}.
+ * Enabled with {@code mdd.mapper=modelmapper}.
+ */
+@Component
+@ConditionalOnProperty(name = "mdd.mapper", havingValue = "modelmapper")
+public class ModelMapperDtoMapper implements DtoMapper {
+
+    private final ModelMapper modelMapper;
+
+    public ModelMapperDtoMapper(ModelMapper modelMapper) {
+        this.modelMapper = modelMapper;
+    }
+
+    @Override
+    public TopicResponseDTO toTopicResponse(DBTopic topic) {
+        return modelMapper.map(topic, TopicResponseDTO.class);
+    }
+
+    @Override
+    public UserResponseDTO toUserResponse(DBUser user) {
+        return modelMapper.map(user, UserResponseDTO.class);
+    }
+
+    @Override
+    public ArticleResponseDTO toArticleResponse(DBArticle article) {
+        return modelMapper.map(article, ArticleResponseDTO.class);
+    }
+
+    @Override
+    public CommentResponseDTO toCommentResponse(DBComment comment) {
+        return modelMapper.map(comment, CommentResponseDTO.class);
+    }
+
+    @Override
+    public DBTopic toTopic(TopicCreateRequestDTO topicDTO) {
+        return modelMapper.map(topicDTO, DBTopic.class);
+    }
+
+    @Override
+    public DBUser toUser(UserCreateRequestDTO userDTO) {
+        return modelMapper.map(userDTO, DBUser.class);
+    }
+
+    @Override
+    public DBArticle toArticle(ArticleCreateRequestDTO articleDTO) {
+        return modelMapper.map(articleDTO, DBArticle.class);
+    }
+
+    @Override
+    public DBComment toComment(CommentCreateRequestDTO commentDTO) {
+        return modelMapper.map(commentDTO, DBComment.class);
+    }
+}
@@ -3,18 +3,44 @@ package com.example.mdd_backend.models;
 import java.util.Date;
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Data
 @Document(collection = "articles")
+@CompoundIndex(name = "createdAt_id", def = "{'createdAt': 1, '_id': 1}")
+@CompoundIndex(
+    name = "topicId_createdAt_id",
+    def = "{'topicId': 1, 'createdAt': -1, '_id': -1}"
+)
+@CompoundIndex(
+    name = "commentCount_createdAt_id",
+    def = "{'commentCount': -1, 'createdAt': -1, '_id': -1}"
+)
 public class DBArticle {
 
     @Id
     private String id;
 
+    /**
+     * Title and content are text indexed, the title with a higher weight,
+     * by {@link com.example.mdd_backend.services.ArticleSearchService}.
+     */
     private String title;
+
     private String content;
+
     private Date createdAt;
+
+    @Indexed
     private String authorId;
+
     private String topicId;
+
+    /**
+     * Number of comments on the article, maintained with atomic $inc
+     * updates and periodically reconciled with the comments collection.
+     */
+    private long commentCount;
 }
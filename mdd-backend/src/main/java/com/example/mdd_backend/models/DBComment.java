@@ -3,17 +3,26 @@ package com.example.mdd_backend.models;
 import java.util.Date;
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Data
 @Document(collection = "comments")
+@CompoundIndex(
+    name = "articleId_createdAt_id",
+    def = "{'articleId': 1, 'createdAt': 1, '_id': 1}"
+)
 public class DBComment {
 
     @Id
     private String id;
 
     private String content;
+
+    @Indexed
     private String authorId;
+
     private String articleId;
     private Date createdAt;
 }
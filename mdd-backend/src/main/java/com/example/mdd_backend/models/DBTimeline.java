@@ -0,0 +1,33 @@
+package com.example.mdd_backend.models;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Precomputed feed of a user: the most recent articles of their
+ * subscribed topics, newest first, capped to a fixed size.
+ */
+@Data
+@Document(collection = "timelines")
+@CompoundIndex(name = "entries_articleId", def = "{'entries.articleId': 1}")
+@CompoundIndex(name = "entries_topicId", def = "{'entries.topicId': 1}")
+public class DBTimeline {
+
+    @Id
+    private String userId;
+
+    private List<Entry> entries = new ArrayList<>();
+
+    @Data
+    public static class Entry {
+
+        private String articleId;
+        private String topicId;
+        private Date createdAt;
+    }
+}
@@ -11,16 +11,22 @@ import org.springframework.data.mongodb.core.mapping.Document;
 @Document(collection = "users")
 public class DBUser {
 
+    /** Names of the unique indexes, reported in duplicate key errors. */
+    public static final String EMAIL_INDEX = "email";
+    public static final String USERNAME_INDEX = "username";
+
     @Id
     private String id;
 
-    @Indexed(unique = true)
+    @Indexed(name = EMAIL_INDEX, unique = true)
     private String email;
 
-    @Indexed(unique = true)
+    @Indexed(name = USERNAME_INDEX, unique = true)
     private String username;
 
     private String password;
+
+    @Indexed
     private List<String> subscribedTopicIds;
 
     private Date createdAt;
@@ -0,0 +1,203 @@
+package com.example.mdd_backend.monitoring;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Listens to the commands sent to Mongo, to count them per request and
+ * log the slow ones.
+ *
+ * A command slower than {@code mdd.mongo.slow-command-threshold} is logged
+ * with its collection and the shape of its filter: the filter with every
+ * value replaced by "?", so the log shows which index the query needs
+ * without exposing user data. The driver only exposes the command when it
+ * starts, so the shape is computed then and kept until the command ends.
+ *
+ * Command latencies by collection and command are recorded by the
+ * driver's metrics listener, as mongodb.driver.commands.
+ */
+@Component
+public class MongoCommandMonitor implements CommandListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(
+        MongoCommandMonitor.class
+    );
+
+    private static final List<String> FILTER_FIELDS = List.of(
+        "filter",
+        "query",
+        "pipeline"
+    );
+    private static final List<String> WRITE_FIELDS = List.of(
+        "updates",
+        "deletes"
+    );
+    private static final int MAX_SHAPE_LENGTH = 500;
+    private static final BsonString PLACEHOLDER = new BsonString("?");
+
+    private final long slowThresholdNanos;
+    /** Commands in flight, by request ID, when slow commands are logged. */
+    private final Map<Integer, StartedCommand> startedCommands =
+        new ConcurrentHashMap<>();
+
+    public MongoCommandMonitor(
+        @Value("${mdd.mongo.slow-command-threshold:PT0.1S}") Duration slowThreshold
+    ) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        MongoQueryCounter.increment();
+        if (slowThresholdNanos > 0) {
+            BsonDocument command = event.getCommand();
+            startedCommands.put(
+                event.getRequestId(),
+                new StartedCommand(
+                    collection(event.getCommandName(), command),
+                    shape(command)
+                )
+            );
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        finished(
+            event.getRequestId(),
+            event.getCommandName(),
+            event.getElapsedTime(TimeUnit.NANOSECONDS),
+            "succeeded"
+        );
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        finished(
+            event.getRequestId(),
+            event.getCommandName(),
+            event.getElapsedTime(TimeUnit.NANOSECONDS),
+            "failed"
+        );
+    }
+
+    private void finished(
+        int requestId,
+        String commandName,
+        long elapsedNanos,
+        String outcome
+    ) {
+        StartedCommand command = startedCommands.remove(requestId);
+        if (command != null && elapsedNanos >= slowThresholdNanos) {
+            logger.warn(
+                "Slow Mongo command {} on {} {} in {} ms, filter shape {}",
+                commandName,
+                command.collection(),
+                outcome,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                command.shape()
+            );
+        }
+    }
+
+    /**
+     * @return The collection named by the command, or an empty string for
+     *         commands not bound to a collection
+     */
+    private static String collection(
+        String commandName,
+        BsonDocument command
+    ) {
+        BsonValue target = command.get(commandName);
+        return target != null && target.isString()
+            ? target.asString().getValue()
+            : "";
+    }
+
+    /**
+     * Extracts the filter of a read, aggregation or write command, with
+     * every value masked.
+     *
+     * @return The JSON shape, empty if the command has no filter
+     */
+    static String shape(BsonDocument command) {
+        BsonDocument shape = new BsonDocument();
+        for (String field : FILTER_FIELDS) {
+            BsonValue value = command.get(field);
+            if (value != null) {
+                shape.put(field, mask(value));
+            }
+        }
+        for (String field : WRITE_FIELDS) {
+            BsonValue statements = command.get(field);
+            if (
+                statements != null &&
+                statements.isArray() &&
+                !statements.asArray().isEmpty() &&
+                statements.asArray().get(0).isDocument()
+            ) {
+                BsonValue filter = statements
+                    .asArray()
+                    .get(0)
+                    .asDocument()
+                    .get("q");
+                if (filter != null) {
+                    shape.put("q", mask(filter));
+                }
+            }
+        }
+        if (shape.isEmpty()) {
+            return "";
+        }
+        String json = shape.toJson();
+        return json.length() > MAX_SHAPE_LENGTH
+            ? json.substring(0, MAX_SHAPE_LENGTH) + "…"
+            : json;
+    }
+
+    /**
+     * Keeps the keys and operators of documents and pipelines, and
+     * replaces every other value, including lists of values, by "?".
+     */
+    private static BsonValue mask(BsonValue value) {
+        if (value.isDocument()) {
+            BsonDocument document = value.asDocument();
+            BsonDocument masked = new BsonDocument();
+            for (Map.Entry<String, BsonValue> entry : document.entrySet()) {
+                masked.put(entry.getKey(), mask(entry.getValue()));
+            }
+            return masked;
+        }
+        if (value.isArray()) {
+            BsonArray array = value.asArray();
+            if (
+                !array.isEmpty() &&
+                array.stream().allMatch(BsonValue::isDocument)
+            ) {
+                BsonArray masked = new BsonArray();
+                for (BsonValue element : array) {
+                    masked.add(mask(element));
+                }
+                return masked;
+            }
+        }
+        return PLACEHOLDER;
+    }
+
+    private record StartedCommand(String collection, String shape) {}
+}
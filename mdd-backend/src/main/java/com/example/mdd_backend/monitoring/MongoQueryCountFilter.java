@@ -0,0 +1,144 @@
+package com.example.mdd_backend.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Counts the Mongo commands sent to serve each request.
+ *
+ * The count is returned in the X-Mongo-Queries header and recorded per
+ * endpoint as mdd.mongo.commands.per.request. Runs before the security
+ * filters, so queries made to authenticate are counted too.
+ *
+ * The header is set when the response is committed: for a streamed
+ * response, it only counts the queries made before the first bytes were
+ * sent. Queries made by asynchronous responses on other threads are not
+ * counted.
+ *
+ * Requests exceeding the {@link QueryBudget} of their endpoint are logged
+ * and counted here, once the whole request has been served. Failing them
+ * is left to {@link QueryBudgetAdvice}, which can still replace the body.
+ *
+ * @see QueryBudget
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class MongoQueryCountFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(
+        MongoQueryCountFilter.class
+    );
+
+    public static final String HEADER = "X-Mongo-Queries";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    public MongoQueryCountFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        try (MongoQueryCounter.Scope scope = MongoQueryCounter.open()) {
+            filterChain.doFilter(
+                request,
+                new OnCommittedResponseWrapper(response) {
+                    @Override
+                    protected void onResponseCommitted() {
+                        setCountHeader(response, scope.count());
+                    }
+                }
+            );
+            int count = scope.count();
+            if (!response.isCommitted()) {
+                setCountHeader(response, count);
+            }
+
+            String uri = uri(request);
+            DistributionSummary.builder("mdd.mongo.commands.per.request")
+                .description("Mongo commands sent to serve a request")
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(count);
+            checkBudget(request, uri, count);
+        }
+    }
+
+    /**
+     * Logs and counts a request exceeding the budget declared on its
+     * controller method, if any.
+     */
+    private void checkBudget(
+        HttpServletRequest request,
+        String uri,
+        int count
+    ) {
+        Object handler = request.getAttribute(
+            HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE
+        );
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        QueryBudget budget = handlerMethod.getMethodAnnotation(
+            QueryBudget.class
+        );
+        if (budget == null || count <= budget.value()) {
+            return;
+        }
+
+        Counter.builder("mdd.mongo.query.budget.exceeded")
+            .description("Requests sending more Mongo commands than allowed")
+            .tag("uri", uri)
+            .register(meterRegistry)
+            .increment();
+        logger.warn(overBudgetMessage(request, count, budget));
+    }
+
+    static String overBudgetMessage(
+        HttpServletRequest request,
+        int count,
+        QueryBudget budget
+    ) {
+        return String.format(
+            "%s %s sent %d Mongo commands, over its budget of %d",
+            request.getMethod(),
+            uri(request),
+            count,
+            budget.value()
+        );
+    }
+
+    private static void setCountHeader(
+        HttpServletResponse response,
+        int count
+    ) {
+        response.setHeader(HEADER, Integer.toString(count));
+    }
+
+    static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(
+            HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE
+        );
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.mdd_backend.monitoring;
+
+/**
+ * Counts the Mongo commands sent by the current thread while a scope is
+ * open.
+ *
+ * The synchronous driver notifies command listeners on the thread that
+ * sends the command, so a scope opened around a request counts the
+ * queries of that request, except those sent from other threads such as
+ * background tasks or asynchronous responses.
+ */
+final class MongoQueryCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private MongoQueryCounter() {}
+
+    static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /** @return Commands counted so far in the current scope, 0 if none */
+    static int currentCount() {
+        Scope scope = CURRENT.get();
+        return scope != null ? scope.count : 0;
+    }
+
+    /** Counts one command in the current scope, if any. */
+    static void increment() {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.count++;
+        }
+    }
+
+    static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private int count;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        int count() {
+            return count;
+        }
+
+        @Override
+        public void close() {
+            if (parent != null) {
+                CURRENT.set(parent);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.mdd_backend.monitoring;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of Mongo commands a controller method may send to
+ * serve one request.
+ *
+ * The budget of an endpoint doesn't depend on the amount of data it
+ * returns: a request exceeding it usually means a query was added per
+ * item (N+1). Exceeding requests are logged and counted, and fail when
+ * {@code mdd.mongo.query-budget.enforce} is true. Enforcement is meant for
+ * tests: in production, an exceeding request is served normally.
+ *
+ * @see MongoQueryCountFilter
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface QueryBudget {
+    int value();
+}
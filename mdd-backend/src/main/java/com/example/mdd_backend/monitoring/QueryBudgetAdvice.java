@@ -0,0 +1,75 @@
+package com.example.mdd_backend.monitoring;
+
+import com.example.mdd_backend.errors.exceptions.QueryBudgetExceededException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Fails requests exceeding the {@link QueryBudget} of their endpoint when
+ * {@code mdd.mongo.query-budget.enforce} is true, as in the tests, so that
+ * an N+1 query breaks the build.
+ *
+ * The check runs just before the response body is written, while the
+ * response can still be replaced by an error: checking in
+ * {@link MongoQueryCountFilter}, after the body has been sent, could only
+ * fail a committed response. It counts the commands sent until then,
+ * which for the budgeted endpoints is all of them as their bodies are
+ * plain DTOs.
+ */
+@RestControllerAdvice
+public class QueryBudgetAdvice implements ResponseBodyAdvice<Object> {
+
+    private final boolean enforceBudgets;
+
+    public QueryBudgetAdvice(
+        @Value("${mdd.mongo.query-budget.enforce:false}") boolean enforceBudgets
+    ) {
+        this.enforceBudgets = enforceBudgets;
+    }
+
+    @Override
+    public boolean supports(
+        MethodParameter returnType,
+        Class<? extends HttpMessageConverter<?>> converterType
+    ) {
+        return enforceBudgets && returnType.hasMethodAnnotation(QueryBudget.class);
+    }
+
+    /**
+     * @throws QueryBudgetExceededException If the request has exceeded its
+     *         budget
+     */
+    @Override
+    public Object beforeBodyWrite(
+        Object body,
+        MethodParameter returnType,
+        MediaType selectedContentType,
+        Class<? extends HttpMessageConverter<?>> selectedConverterType,
+        ServerHttpRequest request,
+        ServerHttpResponse response
+    ) {
+        QueryBudget budget = returnType.getMethodAnnotation(QueryBudget.class);
+        int count = MongoQueryCounter.currentCount();
+        if (
+            budget != null &&
+            count > budget.value() &&
+            request instanceof ServletServerHttpRequest servletRequest
+        ) {
+            throw new QueryBudgetExceededException(
+                MongoQueryCountFilter.overBudgetMessage(
+                    servletRequest.getServletRequest(),
+                    count,
+                    budget
+                )
+            );
+        }
+        return body;
+    }
+}
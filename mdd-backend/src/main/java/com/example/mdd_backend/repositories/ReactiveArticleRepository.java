@@ -0,0 +1,6 @@
+package com.example.mdd_backend.repositories;
+
+import com.example.mdd_backend.models.DBArticle;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+public interface ReactiveArticleRepository extends ReactiveMongoRepository<DBArticle, String> {}
@@ -0,0 +1,6 @@
+package com.example.mdd_backend.repositories;
+
+import com.example.mdd_backend.models.DBUser;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+public interface ReactiveUserRepository extends ReactiveMongoRepository<DBUser, String> {}
@@ -2,10 +2,27 @@ package com.example.mdd_backend.repositories;
 
 import com.example.mdd_backend.models.DBUser;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends MongoRepository<DBUser, String> {
     Optional<DBUser> findByEmail(String email);
     Optional<DBUser> findByUsername(String username);
+
+    @Query(value = "{ '_id': { '$in': ?0 } }", fields = "{ 'username': 1 }")
+    List<DBUser> findUsernamesByIdIn(Collection<String> ids);
+
+    /**
+     * Credentials of the users whose email or username is the identifier,
+     * in one query served by the unique email and username indexes.
+     * At most two users match: one by email, one by username.
+     */
+    @Query(
+        value = "{ '$or': [ { 'email': ?0 }, { 'username': ?0 } ] }",
+        fields = "{ 'email': 1, 'password': 1 }"
+    )
+    List<DBUser> findCredentialsByEmailOrUsername(String usernameOrEmail);
 }
@@ -0,0 +1,292 @@
+package com.example.mdd_backend.services;
+
+import com.example.mdd_backend.dtos.ArticleSearchHitDTO;
+import com.example.mdd_backend.dtos.CursorPageResponseDTO;
+import com.example.mdd_backend.dtos.TopicResponseDTO;
+import com.example.mdd_backend.errors.exceptions.BusinessLogicException;
+import com.example.mdd_backend.errors.exceptions.ValidationException;
+import com.example.mdd_backend.models.DBArticle;
+import com.example.mdd_backend.services.pagination.ScoreCursor;
+import com.example.mdd_backend.services.search.Highlighter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition;
+import org.springframework.stereotype.Service;
+
+/**
+ * Full-text search of articles, backed by the text index on their title
+ * and content.
+ *
+ * The index stems words and drops stop words in the language set by
+ * {@code mdd.search.language} (French by default), which also applies to
+ * queries. It is created at startup, and rebuilt if it was created in
+ * another language: a collection can only have one text index.
+ */
+@Service
+public class ArticleSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(
+        ArticleSearchService.class
+    );
+
+    public static final int MAX_QUERY_LENGTH = 200;
+    private static final int SNIPPET_LENGTH = 200;
+    /** Content read per hit to cut its snippet from. */
+    private static final int SNIPPET_SOURCE_LENGTH = 5000;
+    private static final String TEXT_INDEX = "article_text";
+    /** Title matches weigh more than content matches in search scores. */
+    private static final float TITLE_WEIGHT = 3;
+
+    private final MongoTemplate mongoTemplate;
+    private final TopicService topicService;
+    private final String language;
+
+    public ArticleSearchService(
+        MongoTemplate mongoTemplate,
+        TopicService topicService,
+        @Value("${mdd.search.language:french}") String language
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.topicService = topicService;
+        this.language = language;
+    }
+
+    /**
+     * Creates the text index of articles, replacing any text index with
+     * another language, name or weights.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureTextIndex() {
+        try {
+            IndexOperations indexes = mongoTemplate.indexOps(DBArticle.class);
+            for (IndexInfo index : indexes.getIndexInfo()) {
+                boolean isText = index
+                    .getIndexFields()
+                    .stream()
+                    .anyMatch(IndexField::isText);
+                if (
+                    isText &&
+                    !(
+                        TEXT_INDEX.equals(index.getName()) &&
+                        language.equals(index.getLanguage())
+                    )
+                ) {
+                    logger.info(
+                        "Dropping text index {} in language {}",
+                        index.getName(),
+                        index.getLanguage()
+                    );
+                    indexes.dropIndex(index.getName());
+                }
+            }
+            indexes.ensureIndex(
+                TextIndexDefinition.builder()
+                    .named(TEXT_INDEX)
+                    .onField("title", TITLE_WEIGHT)
+                    .onField("content")
+                    .withDefaultLanguage(language)
+                    .build()
+            );
+        } catch (Exception e) {
+            logger.error(
+                "Error creating the article text index: {}",
+                e.getMessage(),
+                e
+            );
+        }
+    }
+
+    /**
+     * Retrieves one page of the articles matching a full-text query, most
+     * relevant first.
+     *
+     * Pages are read with a (score, id) range predicate starting after the
+     * cursor. Only the fields of the hits and the start of the content are
+     * read, so the page size bounds the data read whatever the articles'
+     * length.
+     *
+     * @param query Words to search for; "quoted phrases" and -negated
+     *              words follow the MongoDB $text syntax
+     * @param topicId Topic to search in, or null to search all topics
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param limit Maximum number of hits in the page
+     * @return Page of hits with highlighted title and snippet, and the
+     *         cursor of the next page, if any
+     * @throws ValidationException If the query is blank or too long, the
+     *         limit is out of range or the cursor is malformed
+     * @throws BusinessLogicException On system error
+     */
+    public CursorPageResponseDTO<ArticleSearchHitDTO> search(
+        String query,
+        String topicId,
+        String cursor,
+        int limit
+    ) {
+        ArticleService.validatePageLimit(limit);
+        if (query == null || query.isBlank()) {
+            throw new ValidationException("q must not be blank");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new ValidationException(
+                "q must be at most " + MAX_QUERY_LENGTH + " characters"
+            );
+        }
+        try {
+            Document match = new Document(
+                "$text",
+                new Document("$search", query)
+            );
+            if (topicId != null && !topicId.isBlank()) {
+                match.append("topicId", topicId);
+            }
+
+            List<AggregationOperation> stages = new ArrayList<>();
+            stages.add(context -> new Document("$match", match));
+            stages.add(context ->
+                new Document(
+                    "$addFields",
+                    new Document("score", new Document("$meta", "textScore"))
+                )
+            );
+            if (cursor != null && !cursor.isBlank()) {
+                Document after = after(ScoreCursor.decode(cursor));
+                stages.add(context -> new Document("$match", after));
+            }
+            stages.add(context ->
+                new Document("$sort", new Document("score", -1).append("_id", 1))
+            );
+            stages.add(Aggregation.limit(limit + 1));
+            stages.add(context ->
+                new Document(
+                    "$project",
+                    new Document("title", 1)
+                        .append("createdAt", 1)
+                        .append("topicId", 1)
+                        .append("score", 1)
+                        .append(
+                            "content",
+                            new Document(
+                                "$substrCP",
+                                List.of("$content", 0, SNIPPET_SOURCE_LENGTH)
+                            )
+                        )
+                )
+            );
+
+            List<SearchHitRow> rows = new ArrayList<>(
+                mongoTemplate
+                    .aggregate(
+                        Aggregation.newAggregation(stages),
+                        DBArticle.class,
+                        SearchHitRow.class
+                    )
+                    .getMappedResults()
+            );
+
+            String nextCursor = null;
+            if (rows.size() > limit) {
+                rows = rows.subList(0, limit);
+                SearchHitRow last = rows.get(limit - 1);
+                nextCursor = new ScoreCursor(last.score(), last.id()).encode();
+            }
+            return new CursorPageResponseDTO<>(
+                ArticleSearchHitDTOs(rows, Highlighter.forQuery(query)),
+                nextCursor
+            );
+        } catch (ValidationException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error(
+                "Error searching articles for query {}: {}",
+                query,
+                e.getMessage(),
+                e
+            );
+            throw new BusinessLogicException("Failed to search articles");
+        }
+    }
+
+    /**
+     * Maps search rows to hits, with their topic names from the topic
+     * cache.
+     */
+    private List<ArticleSearchHitDTO> ArticleSearchHitDTOs(
+        List<SearchHitRow> rows,
+        Highlighter highlighter
+    ) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Set<String> topicIds = new HashSet<>();
+        for (SearchHitRow row : rows) {
+            if (row.topicId() != null) {
+                topicIds.add(row.topicId());
+            }
+        }
+        Map<String, TopicResponseDTO> topics = topicService.getTopicsByIds(
+            topicIds
+        );
+
+        List<ArticleSearchHitDTO> hits = new ArrayList<>(rows.size());
+        for (SearchHitRow row : rows) {
+            ArticleSearchHitDTO hit = new ArticleSearchHitDTO();
+            hit.setId(row.id());
+            hit.setTitle(row.title());
+            hit.setHighlightedTitle(highlighter.highlight(row.title()));
+            hit.setSnippet(highlighter.snippet(row.content(), SNIPPET_LENGTH));
+            hit.setCreatedAt(row.createdAt());
+            hit.setTopicId(row.topicId());
+            TopicResponseDTO topic = topics.get(row.topicId());
+            hit.setTopicName(topic != null ? topic.getName() : null);
+            hit.setScore(row.score());
+            hits.add(hit);
+        }
+        return hits;
+    }
+
+    private static Document after(ScoreCursor cursor) {
+        Object id = ObjectId.isValid(cursor.id())
+            ? new ObjectId(cursor.id())
+            : cursor.id();
+        return new Document(
+            "$or",
+            List.of(
+                new Document("score", new Document("$lt", cursor.score())),
+                new Document("score", cursor.score()).append(
+                    "_id",
+                    new Document("$gt", id)
+                )
+            )
+        );
+    }
+
+    /**
+     * Article fields projected for search hits, with the text score and
+     * the start of the content.
+     */
+    private record SearchHitRow(
+        String id,
+        String title,
+        Date createdAt,
+        String topicId,
+        String content,
+        double score
+    ) {}
+}
@@ -3,15 +3,29 @@ package com.example.mdd_backend.services;
 import com.example.mdd_backend.dtos.*;
 import com.example.mdd_backend.errors.exceptions.BusinessLogicException;
 import com.example.mdd_backend.errors.exceptions.ResourceNotFoundException;
+import com.example.mdd_backend.errors.exceptions.ValidationException;
+import com.example.mdd_backend.mapper.DtoMapper;
 import com.example.mdd_backend.models.DBArticle;
 import com.example.mdd_backend.repositories.ArticleRepository;
 import com.example.mdd_backend.services.articleSorting.ArticleSortStrategy;
 import com.example.mdd_backend.services.articleSorting.SortType;
+import com.example.mdd_backend.services.pagination.KeysetCursor;
+import com.example.mdd_backend.services.streaming.Batches;
+import io.micrometer.core.annotation.Timed;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
-import org.modelmapper.ModelMapper;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.StringOperators;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 /**
@@ -20,32 +34,46 @@ import org.springframework.stereotype.Service;
  * Handles article creation, retrieval, deletion and sorting operations.
  */
 @Service
+@Timed(value = "mdd.service", description = "Service method calls")
 public class ArticleService {
 
     private static final Logger logger = LoggerFactory.getLogger(
         ArticleService.class
     );
 
+    public static final int MAX_PAGE_SIZE = 100;
+    private static final int EXCERPT_LENGTH = 200;
+    private static final int STREAM_BATCH_SIZE = 100;
+
     private final ArticleRepository articleRepository;
+    private final MongoTemplate mongoTemplate;
     private final List<ArticleSortStrategy> sortStrategies;
-    private final ModelMapper modelMapper;
+    private final DtoMapper dtoMapper;
     private final UserService userService;
     private final TopicService topicService;
     private final CommentService commentService;
+    private final TimelineService timelineService;
+    private final CascadeDeletionService cascadeDeletionService;
 
     public ArticleService(
         ArticleRepository articleRepository,
-        ModelMapper modelMapper,
+        MongoTemplate mongoTemplate,
+        DtoMapper dtoMapper,
         UserService userService,
         TopicService topicService,
         CommentService commentService,
+        TimelineService timelineService,
+        CascadeDeletionService cascadeDeletionService,
         List<ArticleSortStrategy> sortStrategies
     ) {
         this.articleRepository = articleRepository;
-        this.modelMapper = modelMapper;
+        this.mongoTemplate = mongoTemplate;
+        this.dtoMapper = dtoMapper;
         this.userService = userService;
         this.topicService = topicService;
         this.commentService = commentService;
+        this.timelineService = timelineService;
+        this.cascadeDeletionService = cascadeDeletionService;
         this.sortStrategies = sortStrategies;
     }
 
@@ -85,23 +113,13 @@ public class ArticleService {
      */
     public List<ArticleResponseDTO> getArticlesSorted(String sortKey) {
         try {
-            SortType sortType = SortType.fromString(sortKey);
-
-            ArticleSortStrategy strategy = sortStrategies
-                .stream()
-                .filter(s -> s.supports(sortType))
-                .findFirst()
-                .orElseThrow(() ->
-                    new BusinessLogicException(
-                        "Unsupported sort type: " + sortKey
-                    )
-                );
+            ArticleSortStrategy strategy = getSortStrategy(sortKey);
 
             List<DBArticle> articles = articleRepository.findAll(
                 strategy.getSort()
             );
 
-            return articles.stream().map(this::ArticleResponseDTO).toList();
+            return ArticleResponseDTOs(articles);
         } catch (BusinessLogicException e) {
             throw e;
         } catch (Exception e) {
@@ -114,6 +132,180 @@ public class ArticleService {
         }
     }
 
+    /**
+     * Streams all articles sorted by specified criteria, in batches.
+     *
+     * Articles are read through a Mongo cursor and enriched one batch at a
+     * time, so memory use doesn't depend on the collection size.
+     * The returned stream holds the cursor open and must be closed.
+     *
+     * @param sortKey Sort criteria (date, title, etc.)
+     * @return Lazy stream of article batches
+     * @throws BusinessLogicException If sort type unsupported or system error
+     */
+    public Stream<List<ArticleResponseDTO>> streamArticlesSorted(
+        String sortKey
+    ) {
+        try {
+            ArticleSortStrategy strategy = getSortStrategy(sortKey);
+
+            Query query = new Query()
+                .with(strategy.getSort())
+                .cursorBatchSize(STREAM_BATCH_SIZE);
+
+            return Batches.of(
+                mongoTemplate.stream(query, DBArticle.class),
+                STREAM_BATCH_SIZE
+            ).map(this::ArticleResponseDTOs);
+        } catch (BusinessLogicException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error(
+                "Error streaming articles with sort key: {}: {}",
+                sortKey,
+                e.getMessage()
+            );
+            throw new BusinessLogicException("Failed to retrieve articles");
+        }
+    }
+
+    /**
+     * Retrieves one page of articles sorted by specified criteria.
+     *
+     * Pages are read with a (createdAt, id) range predicate starting after
+     * the cursor, so every page costs the same whatever its depth.
+     *
+     * @param sortKey Sort criteria (date, title, etc.)
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param limit Maximum number of articles in the page
+     * @return Page of articles with the cursor of the next page, if any
+     * @throws ValidationException If limit is out of range or cursor is malformed
+     * @throws BusinessLogicException If sort type unsupported or system error
+     */
+    public CursorPageResponseDTO<ArticleResponseDTO> getArticlesPage(
+        String sortKey,
+        String cursor,
+        int limit
+    ) {
+        validatePageLimit(limit);
+        try {
+            ArticleSortStrategy strategy = getSortStrategy(sortKey);
+
+            Query query = new Query();
+            if (cursor != null && !cursor.isBlank()) {
+                query.addCriteria(strategy.after(KeysetCursor.decode(cursor)));
+            }
+            query.with(strategy.getSort()).limit(limit + 1);
+
+            List<DBArticle> articles = mongoTemplate.find(
+                query,
+                DBArticle.class
+            );
+
+            String nextCursor = null;
+            if (articles.size() > limit) {
+                articles = articles.subList(0, limit);
+                nextCursor = strategy
+                    .cursorOf(articles.get(limit - 1))
+                    .encode();
+            }
+            return new CursorPageResponseDTO<>(
+                ArticleResponseDTOs(articles),
+                nextCursor
+            );
+        } catch (BusinessLogicException | ValidationException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error(
+                "Error retrieving article page with sort key: {}: {}",
+                sortKey,
+                e.getMessage()
+            );
+            throw new BusinessLogicException("Failed to retrieve articles");
+        }
+    }
+
+    /**
+     * Retrieves one page of article summaries sorted by specified criteria.
+     *
+     * Only the summary fields and a server-side excerpt of the content are
+     * projected, so the full content never leaves the database.
+     *
+     * @param sortKey Sort criteria (date, title, etc.)
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param limit Maximum number of articles in the page
+     * @return Page of article summaries with the cursor of the next page, if any
+     * @throws ValidationException If limit is out of range or cursor is malformed
+     * @throws BusinessLogicException If sort type unsupported or system error
+     */
+    public CursorPageResponseDTO<ArticleSummaryDTO> getArticleSummariesPage(
+        String sortKey,
+        String cursor,
+        int limit
+    ) {
+        validatePageLimit(limit);
+        try {
+            ArticleSortStrategy strategy = getSortStrategy(sortKey);
+
+            List<AggregationOperation> stages = new ArrayList<>();
+            if (cursor != null && !cursor.isBlank()) {
+                stages.add(
+                    Aggregation.match(
+                        strategy.after(KeysetCursor.decode(cursor))
+                    )
+                );
+            }
+            stages.add(Aggregation.sort(strategy.getSort()));
+            stages.add(Aggregation.limit(limit + 1));
+            stages.add(
+                Aggregation.project(
+                    "title",
+                    "createdAt",
+                    "authorId",
+                    "topicId",
+                    "commentCount"
+                )
+                    .and(
+                        StringOperators.valueOf("content").substringCP(
+                            0,
+                            EXCERPT_LENGTH + 1
+                        )
+                    )
+                    .as("excerpt")
+            );
+
+            List<ArticleSummaryRow> rows = new ArrayList<>(
+                mongoTemplate
+                    .aggregate(
+                        Aggregation.newAggregation(DBArticle.class, stages),
+                        ArticleSummaryRow.class
+                    )
+                    .getMappedResults()
+            );
+
+            String nextCursor = null;
+            if (rows.size() > limit) {
+                rows = rows.subList(0, limit);
+                nextCursor = strategy
+                    .cursorOf(rows.get(limit - 1).toArticle())
+                    .encode();
+            }
+            return new CursorPageResponseDTO<>(
+                ArticleSummaryDTOs(rows),
+                nextCursor
+            );
+        } catch (BusinessLogicException | ValidationException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error(
+                "Error retrieving article summaries with sort key: {}: {}",
+                sortKey,
+                e.getMessage()
+            );
+            throw new BusinessLogicException("Failed to retrieve articles");
+        }
+    }
+
     /**
      * Creates a new article.
      *
@@ -128,13 +320,14 @@ public class ArticleService {
         String authorEmail
     ) {
         try {
-            DBArticle article = modelMapper.map(articleDTO, DBArticle.class);
+            DBArticle article = dtoMapper.toArticle(articleDTO);
 
             UserResponseDTO user = userService.getUserByEmail(authorEmail);
             article.setAuthorId(user.getId());
             article.setCreatedAt(new Date());
 
             DBArticle savedArticle = articleRepository.save(article);
+            timelineService.fanOut(savedArticle);
 
             return ArticleResponseDTO(savedArticle);
         } catch (ResourceNotFoundException e) {
@@ -151,7 +344,7 @@ public class ArticleService {
     }
 
     /**
-     * Deletes an article by ID.
+     * Deletes an article by ID, with its comments.
      *
      * @param articleId The unique identifier of the article to delete
      * @throws ResourceNotFoundException If article doesn't exist
@@ -167,6 +360,7 @@ public class ArticleService {
                     )
                 );
             articleRepository.deleteById(articleId);
+            cascadeDeletionService.deleteArticleDependents(articleId);
         } catch (ResourceNotFoundException e) {
             throw e;
         } catch (Exception e) {
@@ -189,27 +383,58 @@ public class ArticleService {
      * @throws BusinessLogicException On mapping failure
      */
     private ArticleResponseDTO ArticleResponseDTO(DBArticle article) {
+        return ArticleResponseDTOs(List.of(article)).get(0);
+    }
+
+    /**
+     * Maps a page of database articles to response DTOs.
+     *
+     * Authors, topics and comments of the whole page are each fetched
+     * with a single query, then joined in memory. Only the first page of
+     * comments of each article is embedded.
+     *
+     * @param articles Database article entities
+     * @return Complete article response DTOs, in the input order
+     * @throws BusinessLogicException On mapping failure
+     */
+    List<ArticleResponseDTO> ArticleResponseDTOs(
+        List<DBArticle> articles
+    ) {
+        if (articles.isEmpty()) {
+            return List.of();
+        }
         try {
-            ArticleResponseDTO articleDTO = modelMapper.map(
-                article,
-                ArticleResponseDTO.class
-            );
+            Set<String> authorIds = new HashSet<>();
+            Set<String> topicIds = new HashSet<>();
+            Set<String> articleIds = new HashSet<>();
+            for (DBArticle article : articles) {
+                if (article.getAuthorId() != null) {
+                    authorIds.add(article.getAuthorId());
+                }
+                if (article.getTopicId() != null) {
+                    topicIds.add(article.getTopicId());
+                }
+                articleIds.add(article.getId());
+            }
 
-            UserResponseDTO author = userService.getUserById(
-                article.getAuthorId()
+            Map<String, UserResponseDTO> authors = userService.getUsersByIds(
+                authorIds
             );
-            articleDTO.setAuthor(author);
-
-            TopicResponseDTO topic = topicService.getTopicById(
-                article.getTopicId()
+            Map<String, TopicResponseDTO> topics = topicService.getTopicsByIds(
+                topicIds
             );
-            articleDTO.setTopic(topic);
+            Map<String, CursorPageResponseDTO<CommentResponseDTO>> comments =
+                commentService.getFirstCommentPagesByArticleIds(articleIds);
 
-            List<CommentResponseDTO> comments =
-                commentService.getCommentsByArticleId(article.getId());
-            articleDTO.setComments(comments);
-
-            return articleDTO;
+            List<ArticleResponseDTO> articleDTOs = new ArrayList<>(
+                articles.size()
+            );
+            for (DBArticle article : articles) {
+                articleDTOs.add(
+                    ArticleResponseDTO(article, authors, topics, comments)
+                );
+            }
+            return articleDTOs;
         } catch (ResourceNotFoundException e) {
             logger.error(
                 "Resource not found while mapping article to DTO: {}",
@@ -221,12 +446,158 @@ public class ArticleService {
             );
         } catch (Exception e) {
             logger.error(
-                "Error mapping article DTO for article {}: {}",
-                article.getId(),
+                "Error mapping article DTOs for {} articles: {}",
+                articles.size(),
                 e.getMessage(),
                 e
             );
             throw new BusinessLogicException("Failed to map article to DTO");
         }
     }
+
+    /**
+     * Maps database article to response DTO with already resolved authors,
+     * topics and first pages of comments.
+     *
+     * @param article Database article entity
+     * @param authors Resolved authors, keyed by user ID
+     * @param topics Resolved topics, keyed by topic ID
+     * @param comments First pages of comments, keyed by article ID
+     * @return Complete article response DTO
+     * @throws ResourceNotFoundException If the author or topic is missing
+     */
+    ArticleResponseDTO ArticleResponseDTO(
+        DBArticle article,
+        Map<String, UserResponseDTO> authors,
+        Map<String, TopicResponseDTO> topics,
+        Map<String, CursorPageResponseDTO<CommentResponseDTO>> comments
+    ) {
+        ArticleResponseDTO articleDTO = dtoMapper.toArticleResponse(article);
+        articleDTO.setAuthor(required(authors, article.getAuthorId(), "User"));
+        articleDTO.setTopic(required(topics, article.getTopicId(), "Theme"));
+        CursorPageResponseDTO<CommentResponseDTO> firstComments = comments.get(
+            article.getId()
+        );
+        if (firstComments != null) {
+            articleDTO.setComments(firstComments.getItems());
+            articleDTO.setCommentsNextCursor(firstComments.getNextCursor());
+        } else {
+            articleDTO.setComments(List.of());
+        }
+        return articleDTO;
+    }
+
+    /**
+     * Maps projected article rows to summary DTOs.
+     * Author usernames and topic names of the whole page are each fetched
+     * with a single query.
+     *
+     * @param rows Projected article rows
+     * @return Article summary DTOs, in the input order
+     */
+    private List<ArticleSummaryDTO> ArticleSummaryDTOs(
+        List<ArticleSummaryRow> rows
+    ) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Set<String> authorIds = new HashSet<>();
+        Set<String> topicIds = new HashSet<>();
+        for (ArticleSummaryRow row : rows) {
+            if (row.authorId() != null) {
+                authorIds.add(row.authorId());
+            }
+            if (row.topicId() != null) {
+                topicIds.add(row.topicId());
+            }
+        }
+
+        Map<String, String> usernames = userService.getUsernamesByIds(
+            authorIds
+        );
+        Map<String, TopicResponseDTO> topics = topicService.getTopicsByIds(
+            topicIds
+        );
+
+        List<ArticleSummaryDTO> summaries = new ArrayList<>(rows.size());
+        for (ArticleSummaryRow row : rows) {
+            ArticleSummaryDTO summary = new ArticleSummaryDTO();
+            summary.setId(row.id());
+            summary.setTitle(row.title());
+            summary.setCreatedAt(row.createdAt());
+            summary.setAuthorUsername(usernames.get(row.authorId()));
+            TopicResponseDTO topic = topics.get(row.topicId());
+            summary.setTopicName(topic != null ? topic.getName() : null);
+            summary.setExcerpt(excerpt(row.excerpt()));
+            summary.setCommentCount(row.commentCount());
+            summaries.add(summary);
+        }
+        return summaries;
+    }
+
+    private static String excerpt(String text) {
+        if (
+            text == null ||
+            text.codePointCount(0, text.length()) <= EXCERPT_LENGTH
+        ) {
+            return text;
+        }
+        return text.substring(0, text.offsetByCodePoints(0, EXCERPT_LENGTH)) +
+        "…";
+    }
+
+    ArticleSortStrategy getSortStrategy(String sortKey) {
+        SortType sortType = SortType.fromString(sortKey);
+
+        return sortStrategies
+            .stream()
+            .filter(s -> s.supports(sortType))
+            .findFirst()
+            .orElseThrow(() ->
+                new BusinessLogicException("Unsupported sort type: " + sortKey)
+            );
+    }
+
+    static void validatePageLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ValidationException(
+                "limit must be between 1 and " + MAX_PAGE_SIZE
+            );
+        }
+    }
+
+    private static <T> T required(
+        Map<String, T> resolved,
+        String id,
+        String resourceName
+    ) {
+        T value = resolved.get(id);
+        if (value == null) {
+            throw new ResourceNotFoundException(
+                resourceName + " not found with ID : " + id
+            );
+        }
+        return value;
+    }
+
+    /**
+     * Article fields projected for summaries; excerpt is computed server-side.
+     */
+    private record ArticleSummaryRow(
+        String id,
+        String title,
+        Date createdAt,
+        String authorId,
+        String topicId,
+        long commentCount,
+        String excerpt
+    ) {
+        DBArticle toArticle() {
+            DBArticle article = new DBArticle();
+            article.setId(id);
+            article.setCreatedAt(createdAt);
+            article.setCommentCount(commentCount);
+            return article;
+        }
+    }
 }
@@ -5,11 +5,11 @@ import com.example.mdd_backend.dtos.LoginRequestDTO;
 import com.example.mdd_backend.dtos.UserCreateRequestDTO;
 import com.example.mdd_backend.errors.exceptions.AuthenticationException;
 import com.example.mdd_backend.errors.exceptions.DuplicateResourceException;
+import com.example.mdd_backend.errors.exceptions.ServiceUnavailableException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -62,6 +62,8 @@ public class AuthService {
             );
 
             return jwtService.getToken(authentication);
+        } catch (ServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             logger.warn(
                 "Authentication failed for user: {}",
@@ -78,7 +80,7 @@ public class AuthService {
      *
      * @param userDTO New user registration data
      * @return JWT token for newly registered user
-     * @throws DuplicateResourceException If email already exists
+     * @throws DuplicateResourceException If email or username already exists
      * @throws AuthenticationException On registration failure
      */
     public AuthResponseDTO registerAndGenerateToken(
@@ -90,19 +92,8 @@ public class AuthService {
         } catch (DuplicateResourceException e) {
         logger.warn("Registration failed: {}", e.getMessage());
         throw e;
-        }   
-        catch (DuplicateKeyException e) {
-            String errorMessage = e.getMessage();
-            String userMessage = "Un compte existe déjà avec ces informations.";
-            if (errorMessage != null) {
-                if (errorMessage.contains("email")) {
-                    userMessage = "Un compte existe déjà avec cet email.";
-                } else if (errorMessage.contains("username")) {
-                    userMessage = "Ce nom d'utilisateur est déjà pris.";
-                }
-            }
-            logger.warn("Registration failed: {}", userMessage);
-            throw new DuplicateResourceException(userMessage);
+        } catch (ServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             logger.error(
                 "Registration failed for user: {}",
@@ -0,0 +1,158 @@
+package com.example.mdd_backend.services;
+
+import com.example.mdd_backend.dtos.AutocompleteSuggestionDTO;
+import com.example.mdd_backend.dtos.TopicResponseDTO;
+import com.example.mdd_backend.errors.exceptions.ValidationException;
+import com.example.mdd_backend.models.DBUser;
+import com.example.mdd_backend.services.search.PrefixIndex;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Suggests topic names and usernames starting with what the user typed.
+ *
+ * Both are looked up in in-memory prefix indexes, so a suggestion doesn't
+ * query Mongo. The topic index follows the topic cache, which updates it
+ * on every load and write. The username index is updated by this
+ * instance's user writes and fully reloaded periodically to pick up
+ * writes made by other instances.
+ */
+@Service
+public class AutocompleteService {
+
+    private static final Logger logger = LoggerFactory.getLogger(
+        AutocompleteService.class
+    );
+
+    public static final int MAX_LIMIT = 50;
+    public static final int MAX_PREFIX_LENGTH = 100;
+
+    private final MongoTemplate mongoTemplate;
+    private final PrefixIndex topicNames = new PrefixIndex();
+    private final PrefixIndex usernames = new PrefixIndex();
+
+    public AutocompleteService(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Retrieves the names starting with a prefix, ignoring case and
+     * diacritics.
+     *
+     * @param type "topic" or "user"
+     * @param prefix Start of the names; empty to list names from the first
+     * @param limit Maximum number of suggestions
+     * @return Suggestions in alphabetical order
+     * @throws ValidationException If the type is unknown, the prefix too
+     *         long or the limit out of range
+     */
+    public List<AutocompleteSuggestionDTO> suggest(
+        String type,
+        String prefix,
+        int limit
+    ) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ValidationException(
+                "limit must be between 1 and " + MAX_LIMIT
+            );
+        }
+        String start = prefix != null ? prefix : "";
+        if (start.length() > MAX_PREFIX_LENGTH) {
+            throw new ValidationException(
+                "prefix must be at most " + MAX_PREFIX_LENGTH + " characters"
+            );
+        }
+        return index(type)
+            .search(start, limit)
+            .stream()
+            .map(match -> new AutocompleteSuggestionDTO(match.id(), match.label()))
+            .toList();
+    }
+
+    /**
+     * Replaces the indexed topic names with those of a full load of the
+     * topics.
+     */
+    public void replaceTopics(Collection<TopicResponseDTO> topics) {
+        Map<String, String> names = new HashMap<>();
+        for (TopicResponseDTO topic : topics) {
+            names.put(topic.getId(), topic.getName());
+        }
+        topicNames.replaceAll(names);
+    }
+
+    public void topicSaved(String topicId, String name) {
+        if (name != null) {
+            topicNames.put(topicId, name);
+        }
+    }
+
+    public void topicDeleted(String topicId) {
+        topicNames.remove(topicId);
+    }
+
+    public void userSaved(String userId, String username) {
+        if (username != null) {
+            usernames.put(userId, username);
+        }
+    }
+
+    public void userDeleted(String userId) {
+        usernames.remove(userId);
+    }
+
+    /**
+     * Loads every username into the index, replacing its content.
+     * Runs at startup, then periodically. Users are streamed with only
+     * their username, so memory is bounded by the index itself. Users
+     * saved or deleted on this instance while the users are read are
+     * applied again after the reload, as the read may predate them.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+        initialDelayString = "${mdd.autocomplete.users.refresh-interval:PT10M}",
+        fixedDelayString = "${mdd.autocomplete.users.refresh-interval:PT10M}"
+    )
+    public void reloadUsernames() {
+        try {
+            usernames.beginReplace();
+            Query query = new Query();
+            query.fields().include("username");
+            Map<String, String> names = new HashMap<>();
+            try (Stream<DBUser> users = mongoTemplate.stream(query, DBUser.class)) {
+                users.forEach(user -> names.put(user.getId(), user.getUsername()));
+            }
+            usernames.replaceAll(names);
+            logger.debug("Loaded {} usernames into autocomplete", names.size());
+        } catch (Exception e) {
+            logger.error(
+                "Error loading usernames for autocomplete: {}",
+                e.getMessage(),
+                e
+            );
+        }
+    }
+
+    private PrefixIndex index(String type) {
+        String key = type != null ? type.toLowerCase(Locale.ROOT) : "";
+        return switch (key) {
+            case "topic" -> topicNames;
+            case "user" -> usernames;
+            default -> throw new ValidationException(
+                "type must be one of: topic, user"
+            );
+        };
+    }
+}
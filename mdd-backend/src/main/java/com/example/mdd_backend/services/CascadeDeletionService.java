@@ -0,0 +1,353 @@
+package com.example.mdd_backend.services;
+
+import com.example.mdd_backend.dtos.CascadeJobResponseDTO;
+import com.example.mdd_backend.errors.exceptions.BusinessLogicException;
+import com.example.mdd_backend.errors.exceptions.ResourceNotFoundException;
+import com.example.mdd_backend.models.DBArticle;
+import com.example.mdd_backend.models.DBComment;
+import com.example.mdd_backend.models.DBUser;
+import com.example.mdd_backend.services.cascade.CascadeJob;
+import com.example.mdd_backend.services.streaming.Batches;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service removing the documents that depend on a deleted article, topic
+ * or user.
+ *
+ * Dependents are removed with bulk operations: one deleteMany or
+ * updateMany per collection and batch, never one write per document.
+ * Article cascades are small and run inline. Topic and user cascades can
+ * touch many articles, so they run on a background executor in bounded
+ * batches and report their progress through a {@link CascadeJob}.
+ */
+@Service
+public class CascadeDeletionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(
+        CascadeDeletionService.class
+    );
+
+    static final int MAX_RETAINED_JOBS = 100;
+
+    private final MongoTemplate mongoTemplate;
+    private final TimelineService timelineService;
+    private final UserCache userCache;
+    private final TaskExecutor cascadeExecutor;
+    private final int batchSize;
+
+    private final Map<String, CascadeJob> jobs = new LinkedHashMap<>();
+
+    public CascadeDeletionService(
+        MongoTemplate mongoTemplate,
+        TimelineService timelineService,
+        UserCache userCache,
+        @Qualifier("cascadeExecutor") TaskExecutor cascadeExecutor,
+        @Value("${mdd.cascade.batch-size:500}") int batchSize
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.timelineService = timelineService;
+        this.userCache = userCache;
+        this.cascadeExecutor = cascadeExecutor;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Removes the comments and timeline entries of a deleted article.
+     *
+     * @param articleId The unique identifier of the deleted article
+     */
+    public void deleteArticleDependents(String articleId) {
+        long comments = mongoTemplate
+            .remove(
+                new Query(Criteria.where("articleId").is(articleId)),
+                DBComment.class
+            )
+            .getDeletedCount();
+        timelineService.removeArticles(List.of(articleId));
+        logger.debug(
+            "Deleted {} comments of article {}",
+            comments,
+            articleId
+        );
+    }
+
+    /**
+     * Removes the subscriptions to a deleted topic, then starts a job
+     * deleting its articles and their comments.
+     *
+     * Subscriptions are pulled before returning so that no user refers
+     * to the topic once the topic itself is gone.
+     *
+     * @param topicId The unique identifier of the deleted topic
+     * @return The started cascade job
+     * @throws BusinessLogicException If too many cascades are already queued
+     */
+    public CascadeJobResponseDTO deleteTopicDependents(String topicId) {
+        CascadeJob job = new CascadeJob(CascadeJob.Type.TOPIC, topicId);
+        job
+            .getSubscriptionsRemoved()
+            .addAndGet(
+                mongoTemplate
+                    .updateMulti(
+                        new Query(
+                            Criteria.where("subscribedTopicIds").is(topicId)
+                        ),
+                        new Update().pull("subscribedTopicIds", topicId),
+                        DBUser.class
+                    )
+                    .getModifiedCount()
+            );
+        userCache.invalidateAll();
+        return submit(job, () -> {
+            job.getTimelinesUpdated().addAndGet(
+                timelineService.removeTopic(topicId)
+            );
+            deleteArticles(job, Criteria.where("topicId").is(topicId));
+        });
+    }
+
+    /**
+     * Starts a job deleting the articles, comments and timeline of a
+     * deleted user.
+     *
+     * @param userId The unique identifier of the deleted user
+     * @return The started cascade job
+     * @throws BusinessLogicException If too many cascades are already queued
+     */
+    public CascadeJobResponseDTO deleteUserDependents(String userId) {
+        CascadeJob job = new CascadeJob(CascadeJob.Type.USER, userId);
+        return submit(job, () -> {
+            job.getTimelinesUpdated().addAndGet(
+                timelineService.deleteTimeline(userId)
+            );
+            deleteArticles(job, Criteria.where("authorId").is(userId));
+            deleteCommentsOfAuthor(job, userId);
+        });
+    }
+
+    /**
+     * Retrieves a cascade job by its unique identifier.
+     *
+     * @param jobId The unique identifier of the job
+     * @return Progress of the job
+     * @throws ResourceNotFoundException If the job doesn't exist or was evicted
+     */
+    public CascadeJobResponseDTO getJob(String jobId) {
+        CascadeJob job;
+        synchronized (jobs) {
+            job = jobs.get(jobId);
+        }
+        if (job == null) {
+            throw new ResourceNotFoundException(
+                "Cascade job not found with ID : " + jobId
+            );
+        }
+        return CascadeJobResponseDTO(job);
+    }
+
+    /**
+     * Retrieves the most recent cascade jobs, newest first.
+     *
+     * @return Progress of the retained jobs
+     */
+    public List<CascadeJobResponseDTO> getJobs() {
+        List<CascadeJob> snapshot;
+        synchronized (jobs) {
+            snapshot = new ArrayList<>(jobs.values());
+        }
+        return snapshot
+            .stream()
+            .sorted(Comparator.comparing(CascadeJob::getCreatedAt).reversed())
+            .map(this::CascadeJobResponseDTO)
+            .toList();
+    }
+
+    private CascadeJobResponseDTO submit(CascadeJob job, Runnable cascade) {
+        synchronized (jobs) {
+            jobs.put(job.getId(), job);
+            evictFinishedJobs();
+        }
+        try {
+            cascadeExecutor.execute(() -> run(job, cascade));
+        } catch (TaskRejectedException e) {
+            logger.error(
+                "Cascade queue full, rejected {} {}",
+                job.getType(),
+                job.getTargetId()
+            );
+            job.fail("Cascade queue is full");
+            throw new BusinessLogicException(
+                "Too many deletions in progress, try again later"
+            );
+        }
+        return CascadeJobResponseDTO(job);
+    }
+
+    /**
+     * Evicts the oldest finished jobs until at most
+     * {@link #MAX_RETAINED_JOBS} are retained. Unfinished jobs are kept
+     * whatever their age, so the limit is exceeded only while more jobs
+     * than that are queued or running. Must be called holding the lock
+     * on {@code jobs}.
+     */
+    private void evictFinishedJobs() {
+        Iterator<CascadeJob> retained = jobs.values().iterator();
+        while (jobs.size() > MAX_RETAINED_JOBS && retained.hasNext()) {
+            if (retained.next().isFinished()) {
+                retained.remove();
+            }
+        }
+    }
+
+    private void run(CascadeJob job, Runnable cascade) {
+        job.start();
+        try {
+            cascade.run();
+            job.complete();
+            logger.info(
+                "Cascade {} {} completed in {} ms: {} articles, {} comments, {} batches",
+                job.getType(),
+                job.getTargetId(),
+                job.getDurationMs(),
+                job.getArticlesDeleted().get(),
+                job.getCommentsDeleted().get(),
+                job.getBatches().get()
+            );
+        } catch (Exception e) {
+            logger.error(
+                "Error running cascade {} {}: {}",
+                job.getType(),
+                job.getTargetId(),
+                e.getMessage(),
+                e
+            );
+            job.fail("Cascade deletion failed");
+        }
+    }
+
+    /**
+     * Deletes the matching articles batch by batch, each batch with its
+     * comments and timeline entries.
+     */
+    private void deleteArticles(CascadeJob job, Criteria articles) {
+        Query query = new Query(articles).cursorBatchSize(batchSize);
+        query.fields().include("id");
+
+        try (
+            Stream<List<DBArticle>> batches = Batches.of(
+                mongoTemplate.stream(query, DBArticle.class),
+                batchSize
+            )
+        ) {
+            for (List<DBArticle> batch : (Iterable<List<DBArticle>>) batches::iterator) {
+                List<String> articleIds = batch
+                    .stream()
+                    .map(DBArticle::getId)
+                    .toList();
+                job.getCommentsDeleted().addAndGet(
+                    mongoTemplate
+                        .remove(
+                            new Query(Criteria.where("articleId").in(articleIds)),
+                            DBComment.class
+                        )
+                        .getDeletedCount()
+                );
+                job.getArticlesDeleted().addAndGet(
+                    mongoTemplate
+                        .remove(
+                            new Query(Criteria.where("id").in(articleIds)),
+                            DBArticle.class
+                        )
+                        .getDeletedCount()
+                );
+                job.getTimelinesUpdated().addAndGet(
+                    timelineService.removeArticles(articleIds)
+                );
+                job.getBatches().incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Deletes the remaining comments of a user on other authors' articles,
+     * decrementing the comment counters of those articles in bulk first.
+     */
+    private void deleteCommentsOfAuthor(CascadeJob job, String userId) {
+        Aggregation countByArticle = Aggregation.newAggregation(
+            Aggregation.match(Criteria.where("authorId").is(userId)),
+            Aggregation.group("articleId").count().as("count")
+        );
+        List<Document> counts = mongoTemplate
+            .aggregate(countByArticle, DBComment.class, Document.class)
+            .getMappedResults();
+
+        for (int from = 0; from < counts.size(); from += batchSize) {
+            BulkOperations bulk = mongoTemplate.bulkOps(
+                BulkOperations.BulkMode.UNORDERED,
+                DBArticle.class
+            );
+            for (Document count : counts.subList(
+                from,
+                Math.min(from + batchSize, counts.size())
+            )) {
+                bulk.updateOne(
+                    new Query(Criteria.where("id").is(count.getString("_id"))),
+                    new Update().inc(
+                        "commentCount",
+                        -((Number) count.get("count")).longValue()
+                    )
+                );
+            }
+            bulk.execute();
+            job.getBatches().incrementAndGet();
+        }
+
+        job.getCommentsDeleted().addAndGet(
+            mongoTemplate
+                .remove(
+                    new Query(Criteria.where("authorId").is(userId)),
+                    DBComment.class
+                )
+                .getDeletedCount()
+        );
+    }
+
+    private CascadeJobResponseDTO CascadeJobResponseDTO(CascadeJob job) {
+        CascadeJobResponseDTO jobDTO = new CascadeJobResponseDTO();
+        jobDTO.setId(job.getId());
+        jobDTO.setType(job.getType().name());
+        jobDTO.setTargetId(job.getTargetId());
+        jobDTO.setStatus(job.getStatus().name());
+        jobDTO.setCreatedAt(job.getCreatedAt());
+        jobDTO.setStartedAt(job.getStartedAt());
+        jobDTO.setFinishedAt(job.getFinishedAt());
+        jobDTO.setDurationMs(job.getDurationMs());
+        jobDTO.setError(job.getError());
+        jobDTO.setBatches(job.getBatches().get());
+        jobDTO.setArticlesDeleted(job.getArticlesDeleted().get());
+        jobDTO.setCommentsDeleted(job.getCommentsDeleted().get());
+        jobDTO.setSubscriptionsRemoved(job.getSubscriptionsRemoved().get());
+        jobDTO.setTimelinesUpdated(job.getTimelinesUpdated().get());
+        return jobDTO;
+    }
+}
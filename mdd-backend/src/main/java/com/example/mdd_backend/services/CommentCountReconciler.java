@@ -0,0 +1,190 @@
+package com.example.mdd_backend.services;
+
+import com.example.mdd_backend.models.DBArticle;
+import com.example.mdd_backend.models.DBComment;
+import com.example.mdd_backend.services.streaming.Batches;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically repairs the denormalized {@code DBArticle.commentCount}
+ * counters, which can drift if the process dies between saving or deleting
+ * a comment and applying the matching $inc.
+ *
+ * Articles are scanned in batches; each batch is compared with one
+ * aggregation over the comments and fixed with one bulk write.
+ *
+ * A comment saved after the counter was read but before its $inc is
+ * applied would be counted twice: once by the recount, once by the $inc.
+ * Articles commented on in the last minute are therefore left for the
+ * next pass. A comment deleted in the same window can still leave the
+ * counter one too low, until the next pass fixes it.
+ *
+ * At startup, articles without a counter, such as those created before
+ * it was introduced, get one: they would otherwise sort after every
+ * counted article and never be reached by most_commented cursors.
+ */
+@Component
+public class CommentCountReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(
+        CommentCountReconciler.class
+    );
+
+    private static final int BATCH_SIZE = 500;
+    private static final Duration RECENT_COMMENT_GRACE = Duration.ofMinutes(1);
+
+    private final MongoTemplate mongoTemplate;
+
+    public CommentCountReconciler(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Recomputes the comment count of every article and fixes the ones
+     * that differ from the stored counter.
+     *
+     * @return Number of articles whose counter was fixed
+     */
+    @Scheduled(
+        initialDelayString = "${mdd.comments.count-reconciliation.initial-delay:PT30S}",
+        fixedDelayString = "${mdd.comments.count-reconciliation.interval:PT1H}"
+    )
+    public int reconcile() {
+        return reconcile(new Query());
+    }
+
+    /**
+     * Sets the comment count of the articles that have none.
+     *
+     * @return Number of articles whose counter was set
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public int backfillMissingCounts() {
+        return reconcile(
+            new Query(Criteria.where("commentCount").exists(false))
+        );
+    }
+
+    private int reconcile(Query query) {
+        try {
+            query.cursorBatchSize(BATCH_SIZE);
+            query.fields().include("commentCount");
+
+            int fixed = 0;
+            try (
+                Stream<List<Document>> batches = Batches.of(
+                    mongoTemplate.stream(
+                        query,
+                        Document.class,
+                        mongoTemplate.getCollectionName(DBArticle.class)
+                    ),
+                    BATCH_SIZE
+                )
+            ) {
+                for (List<Document> batch : (Iterable<List<Document>>) batches::iterator) {
+                    fixed += reconcileBatch(batch);
+                }
+            }
+            if (fixed > 0) {
+                logger.info("Reconciled comment count of {} articles", fixed);
+            }
+            return fixed;
+        } catch (Exception e) {
+            logger.error(
+                "Error reconciling comment counts: {}",
+                e.getMessage(),
+                e
+            );
+            return 0;
+        }
+    }
+
+    private int reconcileBatch(List<Document> articles) {
+        List<String> articleIds = articles
+            .stream()
+            .map(article -> article.getObjectId("_id").toHexString())
+            .toList();
+        Date recent = new Date(
+            System.currentTimeMillis() - RECENT_COMMENT_GRACE.toMillis()
+        );
+        Map<String, CommentStats> actualCounts = countComments(articleIds);
+
+        BulkOperations bulk = mongoTemplate.bulkOps(
+            BulkOperations.BulkMode.UNORDERED,
+            DBArticle.class
+        );
+        int fixes = 0;
+        for (Document article : articles) {
+            ObjectId id = article.getObjectId("_id");
+            Number stored = article.get("commentCount", Number.class);
+            CommentStats stats = actualCounts.get(id.toHexString());
+            long actual = stats != null ? stats.count() : 0;
+            if (stored != null && stored.longValue() == actual) {
+                continue;
+            }
+            if (stats != null && stats.lastCreatedAt().after(recent)) {
+                continue;
+            }
+            // Only overwrite a counter nobody changed since it was read.
+            Criteria unchanged = Criteria.where("id").is(id);
+            unchanged = stored == null
+                ? unchanged.and("commentCount").exists(false)
+                : unchanged.and("commentCount").is(stored);
+            bulk.updateOne(
+                new Query(unchanged),
+                new Update().set("commentCount", actual)
+            );
+            fixes++;
+        }
+        if (fixes > 0) {
+            bulk.execute();
+        }
+        return fixes;
+    }
+
+    private Map<String, CommentStats> countComments(List<String> articleIds) {
+        Aggregation aggregation = Aggregation.newAggregation(
+            Aggregation.match(Criteria.where("articleId").in(articleIds)),
+            Aggregation.group("articleId")
+                .count()
+                .as("count")
+                .max("createdAt")
+                .as("lastCreatedAt")
+        );
+        Map<String, CommentStats> counts = new HashMap<>();
+        for (Document result : mongoTemplate
+            .aggregate(aggregation, DBComment.class, Document.class)
+            .getMappedResults()) {
+            Date lastCreatedAt = result.getDate("lastCreatedAt");
+            counts.put(
+                result.getString("_id"),
+                new CommentStats(
+                    ((Number) result.get("count")).longValue(),
+                    lastCreatedAt != null ? lastCreatedAt : new Date(0)
+                )
+            );
+        }
+        return counts;
+    }
+
+    private record CommentStats(long count, Date lastCreatedAt) {}
+}
@@ -2,20 +2,41 @@ package com.example.mdd_backend.services;
 
 import com.example.mdd_backend.dtos.CommentCreateRequestDTO;
 import com.example.mdd_backend.dtos.CommentResponseDTO;
+import com.example.mdd_backend.dtos.CursorPageResponseDTO;
 import com.example.mdd_backend.dtos.UserResponseDTO;
 import com.example.mdd_backend.errors.exceptions.BusinessLogicException;
 import com.example.mdd_backend.errors.exceptions.DatabaseOperationException;
 import com.example.mdd_backend.errors.exceptions.ResourceNotFoundException;
+import com.example.mdd_backend.errors.exceptions.ValidationException;
+import com.example.mdd_backend.mapper.DtoMapper;
 import com.example.mdd_backend.models.DBArticle;
 import com.example.mdd_backend.models.DBComment;
 import com.example.mdd_backend.repositories.ArticleRepository;
 import com.example.mdd_backend.repositories.CommentRepository;
+import com.example.mdd_backend.services.articleSorting.SortByDateAscStrategy;
+import com.example.mdd_backend.services.pagination.KeysetCursor;
+import com.example.mdd_backend.services.streaming.Batches;
+import io.micrometer.core.annotation.Timed;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
-import org.modelmapper.ModelMapper;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.bson.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 /**
@@ -24,27 +45,39 @@ import org.springframework.stereotype.Service;
  * Handles comment creation, retrieval and deletion operations.
  */
 @Service
+@Timed(value = "mdd.service", description = "Service method calls")
 public class CommentService {
 
     private static final Logger logger = LoggerFactory.getLogger(
         CommentService.class
     );
 
+    private static final int STREAM_BATCH_SIZE = 100;
+
     private final CommentRepository commentRepository;
     private final ArticleRepository articleRepository;
-    private final ModelMapper modelMapper;
+    private final MongoTemplate mongoTemplate;
+    private final DtoMapper dtoMapper;
     private final UserService userService;
+    private final SortByDateAscStrategy oldestFirst;
+    private final int embeddedLimit;
 
     public CommentService(
         CommentRepository commentRepository,
-        ModelMapper modelMapper,
+        DtoMapper dtoMapper,
         UserService userService,
-        ArticleRepository articleRepository
+        ArticleRepository articleRepository,
+        MongoTemplate mongoTemplate,
+        SortByDateAscStrategy oldestFirst,
+        @Value("${mdd.comments.embedded-limit:50}") int embeddedLimit
     ) {
         this.commentRepository = commentRepository;
-        this.modelMapper = modelMapper;
+        this.dtoMapper = dtoMapper;
         this.userService = userService;
         this.articleRepository = articleRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.oldestFirst = oldestFirst;
+        this.embeddedLimit = embeddedLimit;
     }
 
     /**
@@ -96,6 +129,33 @@ public class CommentService {
         }
     }
 
+    /**
+     * Streams all comments in the system, in batches.
+     *
+     * Comments are read through a Mongo cursor and their authors are
+     * resolved one batch at a time. The returned stream holds the cursor
+     * open and must be closed.
+     *
+     * @return Lazy stream of comment batches with author details
+     * @throws DatabaseOperationException On retrieval failure
+     */
+    public Stream<List<CommentResponseDTO>> streamAllComments() {
+        try {
+            Query query = new Query().cursorBatchSize(STREAM_BATCH_SIZE);
+            return Batches.of(
+                mongoTemplate.stream(query, DBComment.class),
+                STREAM_BATCH_SIZE
+            ).map(this::CommentResponseDTOs);
+        } catch (Exception e) {
+            logger.error(
+                "Error streaming all comments: {}",
+                e.getMessage(),
+                e
+            );
+            throw new DatabaseOperationException("Failed to retrieve comments");
+        }
+    }
+
     /**
      * Creates a new comment on an article.
      *
@@ -120,10 +180,7 @@ public class CommentService {
                     )
                 );
 
-            DBComment comment = modelMapper.map(
-                createCommentDTO,
-                DBComment.class
-            );
+            DBComment comment = dtoMapper.toComment(createCommentDTO);
 
             UserResponseDTO user = userService.getUserByEmail(authorEmail);
 
@@ -131,6 +188,7 @@ public class CommentService {
             comment.setAuthorId(user.getId());
             comment.setCreatedAt(new Date());
             DBComment savedComment = commentRepository.save(comment);
+            incrementCommentCount(articleId, 1);
 
             return CommentResponseDTO(savedComment);
         } catch (ResourceNotFoundException e) {
@@ -155,14 +213,16 @@ public class CommentService {
      */
     public void deleteComment(String id) {
         try {
-            commentRepository
-                .findById(id)
-                .orElseThrow(() ->
-                    new ResourceNotFoundException(
-                        "Comment not found with ID: " + id
-                    )
+            DBComment comment = mongoTemplate.findAndRemove(
+                new Query(Criteria.where("id").is(id)),
+                DBComment.class
+            );
+            if (comment == null) {
+                throw new ResourceNotFoundException(
+                    "Comment not found with ID: " + id
                 );
-            commentRepository.deleteById(id);
+            }
+            incrementCommentCount(comment.getArticleId(), -1);
         } catch (ResourceNotFoundException e) {
             throw e;
         } catch (Exception e) {
@@ -176,6 +236,20 @@ public class CommentService {
         }
     }
 
+    /**
+     * Atomically adjusts the denormalized comment counter of an article.
+     *
+     * @param articleId The unique identifier of the article
+     * @param delta Amount to add to the counter
+     */
+    private void incrementCommentCount(String articleId, int delta) {
+        mongoTemplate.updateFirst(
+            new Query(Criteria.where("id").is(articleId)),
+            new Update().inc("commentCount", delta),
+            DBArticle.class
+        );
+    }
+
     /**
      * Maps database comment to response DTO.
      * Enriches with author data.
@@ -184,11 +258,10 @@ public class CommentService {
      * @return Comment response DTO with author details
      * @throws BusinessLogicException On mapping failure
      */
-    private CommentResponseDTO CommentResponseDTO(DBComment comment) {
+    CommentResponseDTO CommentResponseDTO(DBComment comment) {
         try {
-            CommentResponseDTO commentDTO = modelMapper.map(
-                comment,
-                CommentResponseDTO.class
+            CommentResponseDTO commentDTO = dtoMapper.toCommentResponse(
+                comment
             );
             commentDTO.setAuthor(
                 userService.getUserById(comment.getAuthorId())
@@ -241,4 +314,265 @@ public class CommentService {
             );
         }
     }
+
+    /**
+     * Retrieves one page of comments of an article, oldest first.
+     *
+     * Pages are read from the (articleId, createdAt, id) index with a range
+     * predicate starting after the cursor.
+     *
+     * @param articleId The unique identifier of the article
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param limit Maximum number of comments in the page
+     * @return Page of comments with the cursor of the next page, if any
+     * @throws ValidationException If limit is out of range or cursor is malformed
+     * @throws DatabaseOperationException On retrieval failure
+     */
+    public CursorPageResponseDTO<CommentResponseDTO> getCommentsPage(
+        String articleId,
+        String cursor,
+        int limit
+    ) {
+        ArticleService.validatePageLimit(limit);
+        try {
+            Query query = new Query(Criteria.where("articleId").is(articleId));
+            if (cursor != null && !cursor.isBlank()) {
+                query.addCriteria(
+                    oldestFirst.after(KeysetCursor.decode(cursor))
+                );
+            }
+            query.with(oldestFirst.getSort()).limit(limit + 1);
+
+            List<DBComment> comments = mongoTemplate.find(
+                query,
+                DBComment.class
+            );
+
+            String nextCursor = null;
+            if (comments.size() > limit) {
+                comments = comments.subList(0, limit);
+                nextCursor = cursorOf(comments.get(limit - 1));
+            }
+            return new CursorPageResponseDTO<>(
+                CommentResponseDTOs(comments),
+                nextCursor
+            );
+        } catch (ValidationException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error(
+                "Error retrieving comment page for article {}: {}",
+                articleId,
+                e.getMessage(),
+                e
+            );
+            throw new DatabaseOperationException(
+                "Failed to retrieve comments for article"
+            );
+        }
+    }
+
+    /**
+     * Retrieves the first page of comments of several articles.
+     *
+     * A single aggregation reads at most {@code embeddedLimit + 1} comments
+     * per article, and their authors are fetched with a single query.
+     *
+     * @param articleIds The unique identifiers of the articles
+     * @return First page of comments by article ID, oldest first.
+     *         Articles without comments are absent from the map.
+     * @throws DatabaseOperationException On retrieval failure
+     */
+    public Map<String, CursorPageResponseDTO<CommentResponseDTO>> getFirstCommentPagesByArticleIds(
+        Collection<String> articleIds
+    ) {
+        try {
+            List<ArticleCommentsRow> rows = mongoTemplate
+                .aggregate(
+                    firstCommentPagesAggregation(articleIds),
+                    DBArticle.class,
+                    ArticleCommentsRow.class
+                )
+                .getMappedResults();
+
+            List<DBComment> comments = new ArrayList<>();
+            Map<String, String> nextCursors = new HashMap<>();
+            for (ArticleCommentsRow row : rows) {
+                CursorPageResponseDTO<DBComment> page = firstCommentPage(row);
+                if (page.getNextCursor() != null) {
+                    nextCursors.put(row.id(), page.getNextCursor());
+                }
+                comments.addAll(page.getItems());
+            }
+            List<CommentResponseDTO> commentDTOs = CommentResponseDTOs(
+                comments
+            );
+
+            Map<String, List<CommentResponseDTO>> commentsByArticle =
+                new HashMap<>();
+            for (int i = 0; i < comments.size(); i++) {
+                commentsByArticle
+                    .computeIfAbsent(comments.get(i).getArticleId(), id ->
+                        new ArrayList<>()
+                    )
+                    .add(commentDTOs.get(i));
+            }
+            Map<String, CursorPageResponseDTO<CommentResponseDTO>> pages =
+                new HashMap<>();
+            commentsByArticle.forEach((articleId, page) ->
+                pages.put(
+                    articleId,
+                    new CursorPageResponseDTO<>(page, nextCursors.get(articleId))
+                )
+            );
+            return pages;
+        } catch (Exception e) {
+            logger.error(
+                "Error retrieving comments for articles {}: {}",
+                articleIds,
+                e.getMessage(),
+                e
+            );
+            throw new DatabaseOperationException(
+                "Failed to retrieve comments for articles"
+            );
+        }
+    }
+
+    /**
+     * Aggregation reading at most {@code embeddedLimit + 1} comments per
+     * article, oldest first.
+     *
+     * Runs on the articles collection: each article looks up its own
+     * comments with a sorted and limited sub-pipeline, served by the
+     * (articleId, createdAt, _id) index, so only the returned comments are
+     * read whatever the size of each thread.
+     *
+     * @param articleIds The unique identifiers of the articles
+     * @return Aggregation over {@link DBArticle} producing one
+     *         {@link ArticleCommentsRow} per article having comments
+     */
+    Aggregation firstCommentPagesAggregation(Collection<String> articleIds) {
+        return Aggregation.newAggregation(
+            Aggregation.match(Criteria.where("id").in(articleIds)),
+            context ->
+                new Document(
+                    "$lookup",
+                    new Document(
+                        "from",
+                        mongoTemplate.getCollectionName(DBComment.class)
+                    )
+                        .append(
+                            "let",
+                            new Document(
+                                "articleId",
+                                new Document("$toString", "$_id")
+                            )
+                        )
+                        .append(
+                            "pipeline",
+                            List.of(
+                                new Document(
+                                    "$match",
+                                    new Document(
+                                        "$expr",
+                                        new Document(
+                                            "$eq",
+                                            List.of("$articleId", "$$articleId")
+                                        )
+                                    )
+                                ),
+                                new Document(
+                                    "$sort",
+                                    new Document("createdAt", 1).append("_id", 1)
+                                ),
+                                new Document("$limit", embeddedLimit + 1)
+                            )
+                        )
+                        .append("as", "comments")
+                ),
+            Aggregation.match(Criteria.where("comments.0").exists(true)),
+            Aggregation.project("comments")
+        );
+    }
+
+    /**
+     * Trims the comments of an article to the embedded page size.
+     *
+     * @param row Comments of an article, as grouped by
+     *            {@link #firstCommentPagesAggregation(Collection)}
+     * @return First page of comments, with the cursor of the next page if
+     *         the article has more comments
+     */
+    CursorPageResponseDTO<DBComment> firstCommentPage(ArticleCommentsRow row) {
+        List<DBComment> page = row.comments();
+        if (page.size() <= embeddedLimit) {
+            return new CursorPageResponseDTO<>(page, null);
+        }
+        page = page.subList(0, embeddedLimit);
+        return new CursorPageResponseDTO<>(
+            page,
+            cursorOf(page.get(embeddedLimit - 1))
+        );
+    }
+
+    private static String cursorOf(DBComment comment) {
+        return new KeysetCursor(comment.getCreatedAt(), comment.getId())
+            .encode();
+    }
+
+    /**
+     * Maps database comments to response DTOs.
+     * Authors of all comments are fetched with a single query.
+     *
+     * @param comments Database comment entities
+     * @return Comment response DTOs, in the input order
+     * @throws BusinessLogicException If an author is missing
+     */
+    private List<CommentResponseDTO> CommentResponseDTOs(
+        List<DBComment> comments
+    ) {
+        if (comments.isEmpty()) {
+            return List.of();
+        }
+        Set<String> authorIds = comments
+            .stream()
+            .map(DBComment::getAuthorId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Map<String, UserResponseDTO> authors = userService.getUsersByIds(
+            authorIds
+        );
+        return comments
+            .stream()
+            .map(comment ->
+                CommentResponseDTO(comment, authors.get(comment.getAuthorId()))
+            )
+            .toList();
+    }
+
+    /**
+     * Maps database comment to response DTO with an already resolved author.
+     *
+     * @param comment Database comment entity
+     * @param author Resolved author, or null if the author doesn't exist
+     * @return Comment response DTO with author details
+     * @throws BusinessLogicException If the author is missing
+     */
+    CommentResponseDTO CommentResponseDTO(
+        DBComment comment,
+        UserResponseDTO author
+    ) {
+        if (author == null) {
+            logger.error("Author not found for comment {}", comment.getId());
+            throw new BusinessLogicException(
+                "Failed to retrieve comment author"
+            );
+        }
+        CommentResponseDTO commentDTO = dtoMapper.toCommentResponse(comment);
+        commentDTO.setAuthor(author);
+        return commentDTO;
+    }
+
+    record ArticleCommentsRow(String id, List<DBComment> comments) {}
 }
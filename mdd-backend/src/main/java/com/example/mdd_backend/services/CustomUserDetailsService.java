@@ -6,35 +6,57 @@ import com.example.mdd_backend.models.DBUser;
 import com.example.mdd_backend.repositories.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final static Logger logger = LoggerFactory.getLogger(CustomUserDetailsService.class);
 
     private final UserRepository userRepository;
+    private final MongoTemplate mongoTemplate;
+    private final UnknownUserCache unknownUserCache;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(
+            UserRepository userRepository,
+            MongoTemplate mongoTemplate,
+            UnknownUserCache unknownUserCache
+    ) {
         this.userRepository = userRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.unknownUserCache = unknownUserCache;
     }
 
     @Override
     public UserDetails loadUserByUsername(String usernameOrEmail) throws UsernameNotFoundException {
         try {
+            if (unknownUserCache.isUnknown(usernameOrEmail)) {
+                throw new UsernameNotFoundException("User not found");
+            }
+
+            long generation = unknownUserCache.generation();
             DBUser user = findUserByUsernameOrEmail(usernameOrEmail);
             if (user == null) {
+                unknownUserCache.markUnknown(usernameOrEmail, generation);
                 throw new UsernameNotFoundException("User not found");
             }
 
-            return org.springframework.security.core.userdetails.User
+            return User
                     .withUsername(user.getEmail())
                     .password(user.getPassword())
                     .authorities("USER")
                     .build();
+        } catch (UsernameNotFoundException e) {
+            throw e;
         } catch (ResourceNotFoundException e) {
             logger.warn("Error loadUserByUsername: {}", e.getMessage());
             throw new UsernameNotFoundException("User not found");
@@ -45,14 +67,49 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     }
 
-    private DBUser findUserByUsernameOrEmail(String usernameOrEmail) {
+    /**
+     * Replaces the hash of a user who just logged in with one of the
+     * current strength. The write only applies if the stored hash is still
+     * the one that was verified, so a concurrent password change wins.
+     * A failed upgrade is logged and doesn't fail the login.
+     *
+     * @param newPassword The new hash, or null if hashing was too busy to
+     *        compute it, in which case the stored hash is kept
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        if (newPassword == null) {
+            return user;
+        }
         try {
-            DBUser user = userRepository.findByEmail(usernameOrEmail).orElse(null);
-
-            if (user == null) {
-                user = userRepository.findByUsername(usernameOrEmail).orElse(null);
+            long updated = mongoTemplate.updateFirst(
+                    new Query(Criteria.where("email").is(user.getUsername())
+                            .and("password").is(user.getPassword())),
+                    new Update().set("password", newPassword),
+                    DBUser.class
+            ).getModifiedCount();
+            if (updated == 0) {
+                return user;
             }
+            logger.info("Upgraded password hash of user {}", user.getUsername());
+            return User.withUserDetails(user).password(newPassword).build();
+        } catch (Exception e) {
+            logger.warn("Error upgrading password hash of user {}: {}", user.getUsername(), e.getMessage());
+            return user;
+        }
+    }
 
+    private DBUser findUserByUsernameOrEmail(String usernameOrEmail) {
+        try {
+            // Only email and password hash are loaded; an email match wins
+            // over a username match, as emails identify users
+            DBUser user = null;
+            for (DBUser candidate : userRepository.findCredentialsByEmailOrUsername(usernameOrEmail)) {
+                if (usernameOrEmail.equals(candidate.getEmail())) {
+                    return candidate;
+                }
+                user = candidate;
+            }
             return user;
         } catch (ResourceNotFoundException e) {
           throw e;
@@ -0,0 +1,99 @@
+package com.example.mdd_backend.services;
+
+import com.example.mdd_backend.models.DBUser;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * Removes subscriptions to topics that no longer exist, in the background.
+ *
+ * Dangling IDs are found while building user DTOs. Pruning them once
+ * stops every later read of the user from looking them up again.
+ * At most one prune per user is queued at a time.
+ */
+@Component
+public class DanglingSubscriptionPruner {
+
+    private static final Logger logger = LoggerFactory.getLogger(
+        DanglingSubscriptionPruner.class
+    );
+
+    private final MongoTemplate mongoTemplate;
+    private final UserCache userCache;
+    private final TaskExecutor executor;
+    private final Set<String> pendingUserIds = ConcurrentHashMap.newKeySet();
+
+    public DanglingSubscriptionPruner(
+        MongoTemplate mongoTemplate,
+        UserCache userCache,
+        @Qualifier("cascadeExecutor") TaskExecutor executor
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.userCache = userCache;
+        this.executor = executor;
+    }
+
+    /**
+     * Schedules the removal of dangling subscriptions of a user.
+     * Does nothing if a prune of this user is already pending.
+     *
+     * @param userId The unique identifier of the user
+     * @param topicIds The subscribed topic IDs that no longer exist
+     */
+    public void prune(String userId, Collection<String> topicIds) {
+        if (!pendingUserIds.add(userId)) {
+            return;
+        }
+        List<String> danglingIds = List.copyOf(topicIds);
+        try {
+            executor.execute(() -> {
+                try {
+                    pull(userId, danglingIds);
+                } finally {
+                    pendingUserIds.remove(userId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            pendingUserIds.remove(userId);
+            logger.warn(
+                "Queue full, dangling subscriptions of user {} not pruned",
+                userId
+            );
+        }
+    }
+
+    private void pull(String userId, List<String> topicIds) {
+        try {
+            mongoTemplate.updateFirst(
+                new Query(Criteria.where("id").is(userId)),
+                new Update().pullAll("subscribedTopicIds", topicIds.toArray()),
+                DBUser.class
+            );
+            userCache.invalidate(userId);
+            logger.info(
+                "Pruned dangling subscriptions {} of user {}",
+                topicIds,
+                userId
+            );
+        } catch (Exception e) {
+            logger.error(
+                "Error pruning subscriptions of user {}: {}",
+                userId,
+                e.getMessage(),
+                e
+            );
+        }
+    }
+}
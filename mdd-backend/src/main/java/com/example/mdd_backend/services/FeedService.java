@@ -0,0 +1,203 @@
+package com.example.mdd_backend.services;
+
+import com.example.mdd_backend.dtos.ArticleResponseDTO;
+import com.example.mdd_backend.dtos.CursorPageResponseDTO;
+import com.example.mdd_backend.dtos.TopicResponseDTO;
+import com.example.mdd_backend.dtos.UserResponseDTO;
+import com.example.mdd_backend.errors.exceptions.BusinessLogicException;
+import com.example.mdd_backend.errors.exceptions.ResourceNotFoundException;
+import com.example.mdd_backend.errors.exceptions.ValidationException;
+import com.example.mdd_backend.models.DBArticle;
+import com.example.mdd_backend.models.DBTimeline;
+import com.example.mdd_backend.repositories.ArticleRepository;
+import com.example.mdd_backend.services.articleSorting.SortByDateDescStrategy;
+import com.example.mdd_backend.services.pagination.KWayMerge;
+import com.example.mdd_backend.services.pagination.KeysetCursor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service building the personalized article feed of a user.
+ *
+ * The feed holds the articles of the topics the user is subscribed to,
+ * newest first.
+ */
+@Service
+public class FeedService {
+
+    private static final Logger logger = LoggerFactory.getLogger(
+        FeedService.class
+    );
+
+    private static final Comparator<DBArticle> NEWEST_FIRST = Comparator
+        .comparing(DBArticle::getCreatedAt)
+        .thenComparing(DBArticle::getId)
+        .reversed();
+
+    private final MongoTemplate mongoTemplate;
+    private final ArticleRepository articleRepository;
+    private final UserService userService;
+    private final ArticleService articleService;
+    private final TimelineService timelineService;
+    private final SortByDateDescStrategy newestFirst;
+
+    public FeedService(
+        MongoTemplate mongoTemplate,
+        ArticleRepository articleRepository,
+        UserService userService,
+        ArticleService articleService,
+        TimelineService timelineService,
+        SortByDateDescStrategy newestFirst
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.articleRepository = articleRepository;
+        this.userService = userService;
+        this.articleService = articleService;
+        this.timelineService = timelineService;
+        this.newestFirst = newestFirst;
+    }
+
+    /**
+     * Retrieves one page of the feed of a user.
+     *
+     * Reads the user's precomputed timeline when timeline mode is enabled.
+     * Otherwise runs one bounded query per subscribed topic on the
+     * (topicId, createdAt, _id) index and merges the sorted results.
+     *
+     * @param userEmail Email of the user
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param limit Maximum number of articles in the page
+     * @return Page of articles with the cursor of the next page, if any
+     * @throws ResourceNotFoundException If user doesn't exist
+     * @throws ValidationException If limit is out of range or cursor is malformed
+     * @throws BusinessLogicException On retrieval failure
+     */
+    public CursorPageResponseDTO<ArticleResponseDTO> getFeed(
+        String userEmail,
+        String cursor,
+        int limit
+    ) {
+        ArticleService.validatePageLimit(limit);
+        try {
+            KeysetCursor after = cursor == null || cursor.isBlank()
+                ? null
+                : KeysetCursor.decode(cursor);
+
+            UserResponseDTO user = userService.getUserByEmail(userEmail);
+            Set<String> topicIds = new LinkedHashSet<>();
+            for (TopicResponseDTO topic : user.getSubscriptions()) {
+                topicIds.add(topic.getId());
+            }
+
+            List<DBArticle> articles;
+            String nextCursor = null;
+            if (timelineService.isEnabled()) {
+                List<DBTimeline.Entry> entries = timelineService.getEntries(
+                    user.getId(),
+                    topicIds,
+                    after,
+                    limit + 1
+                );
+                if (entries.size() > limit) {
+                    entries = entries.subList(0, limit);
+                    DBTimeline.Entry last = entries.get(limit - 1);
+                    nextCursor = new KeysetCursor(
+                        last.getCreatedAt(),
+                        last.getArticleId()
+                    ).encode();
+                }
+                articles = findArticles(entries);
+            } else {
+                articles = findSubscribedArticles(topicIds, after, limit + 1);
+                if (articles.size() > limit) {
+                    articles = articles.subList(0, limit);
+                    nextCursor = newestFirst
+                        .cursorOf(articles.get(limit - 1))
+                        .encode();
+                }
+            }
+            return new CursorPageResponseDTO<>(
+                articleService.ArticleResponseDTOs(articles),
+                nextCursor
+            );
+        } catch (
+            ResourceNotFoundException
+            | ValidationException
+            | BusinessLogicException e
+        ) {
+            throw e;
+        } catch (Exception e) {
+            logger.error(
+                "Error building feed for user {}: {}",
+                userEmail,
+                e.getMessage(),
+                e
+            );
+            throw new BusinessLogicException("Failed to retrieve feed");
+        }
+    }
+
+    /**
+     * Loads the articles of timeline entries with a single query,
+     * keeping the timeline order and skipping deleted articles.
+     */
+    private List<DBArticle> findArticles(List<DBTimeline.Entry> entries) {
+        List<String> articleIds = entries
+            .stream()
+            .map(DBTimeline.Entry::getArticleId)
+            .toList();
+        Map<String, DBArticle> articlesById = new HashMap<>();
+        for (DBArticle article : articleRepository.findAllById(articleIds)) {
+            articlesById.put(article.getId(), article);
+        }
+        return articleIds
+            .stream()
+            .map(articlesById::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    /**
+     * Reads the newest articles of several topics after a cursor, with one
+     * bounded query per topic, and merges them.
+     *
+     * @return At most {@code limit} articles, newest first
+     */
+    List<DBArticle> findSubscribedArticles(
+        Collection<String> topicIds,
+        KeysetCursor after,
+        int limit
+    ) {
+        List<List<DBArticle>> perTopic = new ArrayList<>(topicIds.size());
+        for (String topicId : topicIds) {
+            perTopic.add(findTopicPage(topicId, after, limit));
+        }
+        return KWayMerge.merge(perTopic, NEWEST_FIRST, limit);
+    }
+
+    private List<DBArticle> findTopicPage(
+        String topicId,
+        KeysetCursor after,
+        int limit
+    ) {
+        Query query = new Query(Criteria.where("topicId").is(topicId));
+        if (after != null) {
+            query.addCriteria(newestFirst.after(after));
+        }
+        query.with(newestFirst.getSort()).limit(limit);
+        return mongoTemplate.find(query, DBArticle.class);
+    }
+}
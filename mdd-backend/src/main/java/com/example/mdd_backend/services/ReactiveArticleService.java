@@ -0,0 +1,319 @@
+package com.example.mdd_backend.services;
+
+import com.example.mdd_backend.dtos.ArticleResponseDTO;
+import com.example.mdd_backend.dtos.CommentResponseDTO;
+import com.example.mdd_backend.dtos.CursorPageResponseDTO;
+import com.example.mdd_backend.dtos.UserResponseDTO;
+import com.example.mdd_backend.errors.exceptions.BusinessLogicException;
+import com.example.mdd_backend.errors.exceptions.DatabaseOperationException;
+import com.example.mdd_backend.errors.exceptions.ResourceNotFoundException;
+import com.example.mdd_backend.models.DBArticle;
+import com.example.mdd_backend.repositories.ReactiveArticleRepository;
+import com.example.mdd_backend.repositories.ReactiveUserRepository;
+import com.example.mdd_backend.services.CommentService.ArticleCommentsRow;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking article reads, enabled by the {@code reactive} profile.
+ *
+ * Returns the same DTOs as {@link ArticleService}. The authors, topics and
+ * first comments of a batch of articles are fetched concurrently rather
+ * than one after the other, and articles are read from the Mongo cursor
+ * one batch at a time, only as fast as the client consumes them.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveArticleService {
+
+    private static final Logger logger = LoggerFactory.getLogger(
+        ReactiveArticleService.class
+    );
+
+    private static final int STREAM_BATCH_SIZE = 100;
+
+    private final ReactiveArticleRepository articleRepository;
+    private final ReactiveUserRepository userRepository;
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final ReactiveTopicService topicService;
+    private final ArticleService articleService;
+    private final CommentService commentService;
+    private final UserDtoAssembler userDtoAssembler;
+
+    public ReactiveArticleService(
+        ReactiveArticleRepository articleRepository,
+        ReactiveUserRepository userRepository,
+        ReactiveMongoTemplate mongoTemplate,
+        ReactiveTopicService topicService,
+        ArticleService articleService,
+        CommentService commentService,
+        UserDtoAssembler userDtoAssembler
+    ) {
+        this.articleRepository = articleRepository;
+        this.userRepository = userRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.topicService = topicService;
+        this.articleService = articleService;
+        this.commentService = commentService;
+        this.userDtoAssembler = userDtoAssembler;
+    }
+
+    /**
+     * Retrieves an article by its unique identifier.
+     * Includes author, topic and comments details.
+     *
+     * @param articleId The unique identifier of the article
+     * @return {@link ArticleResponseDTO} with complete article data
+     * @throws ResourceNotFoundException If article doesn't exist
+     * @throws BusinessLogicException On system error
+     */
+    public Mono<ArticleResponseDTO> getArticleById(String articleId) {
+        return articleRepository
+            .findById(articleId)
+            .switchIfEmpty(
+                Mono.error(() ->
+                    new ResourceNotFoundException(
+                        "Article not found with ID : " + articleId
+                    )
+                )
+            )
+            .flatMap(article -> ArticleResponseDTOs(List.of(article)))
+            .map(articles -> articles.get(0))
+            .onErrorMap(ReactiveArticleService::isUnexpected, e -> {
+                logger.error(
+                    "Error retrieving article with ID: {}",
+                    articleId,
+                    e
+                );
+                return new BusinessLogicException("Failed to retrieve article");
+            });
+    }
+
+    /**
+     * Retrieves all articles sorted by specified criteria.
+     *
+     * Articles are enriched one batch at a time; the next batch is only
+     * read from the cursor once the previous one has been consumed.
+     *
+     * @param sortKey Sort criteria (date, title, etc.)
+     * @return Articles sorted by specified key
+     * @throws BusinessLogicException If sort type unsupported or system error
+     */
+    public Flux<ArticleResponseDTO> getArticlesSorted(String sortKey) {
+        return Mono.fromCallable(() -> articleService.getSortStrategy(sortKey))
+            .flatMapMany(strategy -> articleRepository.findAll(strategy.getSort()))
+            .buffer(STREAM_BATCH_SIZE)
+            .concatMap(this::ArticleResponseDTOs, 1)
+            .flatMapIterable(articles -> articles)
+            .onErrorMap(ReactiveArticleService::isUnexpected, e -> {
+                logger.error(
+                    "Error retrieving articles with sort key: {}: {}",
+                    sortKey,
+                    e.getMessage()
+                );
+                return new BusinessLogicException("Failed to retrieve articles");
+            });
+    }
+
+    /**
+     * Maps a batch of database articles to response DTOs.
+     *
+     * Authors, topics and comments of the batch are each fetched with a
+     * single query, the three lookups running concurrently.
+     *
+     * @param articles Database article entities
+     * @return Complete article response DTOs, in the input order
+     * @throws BusinessLogicException On mapping failure
+     */
+    private Mono<List<ArticleResponseDTO>> ArticleResponseDTOs(
+        List<DBArticle> articles
+    ) {
+        Set<String> authorIds = new HashSet<>();
+        Set<String> topicIds = new HashSet<>();
+        Set<String> articleIds = new HashSet<>();
+        for (DBArticle article : articles) {
+            if (article.getAuthorId() != null) {
+                authorIds.add(article.getAuthorId());
+            }
+            if (article.getTopicId() != null) {
+                topicIds.add(article.getTopicId());
+            }
+            articleIds.add(article.getId());
+        }
+
+        return Mono.zip(
+            getUsersByIds(authorIds),
+            topicService.getTopicsByIds(topicIds),
+            getFirstCommentPagesByArticleIds(articleIds)
+        )
+            .map(resolved -> {
+                List<ArticleResponseDTO> articleDTOs = new ArrayList<>(
+                    articles.size()
+                );
+                for (DBArticle article : articles) {
+                    articleDTOs.add(
+                        articleService.ArticleResponseDTO(
+                            article,
+                            resolved.getT1(),
+                            resolved.getT2(),
+                            resolved.getT3()
+                        )
+                    );
+                }
+                return articleDTOs;
+            })
+            .onErrorMap(
+                e -> !(e instanceof BusinessLogicException),
+                e -> {
+                    logger.error(
+                        "Error mapping article DTOs for {} articles: {}",
+                        articles.size(),
+                        e.getMessage(),
+                        e
+                    );
+                    return e instanceof ResourceNotFoundException
+                        ? new BusinessLogicException(
+                            "Resource not found while mapping article to DTO"
+                        )
+                        : new BusinessLogicException(
+                            "Failed to map article to DTO"
+                        );
+                }
+            );
+    }
+
+    /**
+     * Retrieves several users with a single query, then their subscribed
+     * topics with another.
+     *
+     * @param ids The unique identifiers of the users
+     * @return Users keyed by ID. Unknown IDs are absent from the map.
+     * @throws DatabaseOperationException On retrieval failure
+     */
+    private Mono<Map<String, UserResponseDTO>> getUsersByIds(
+        Collection<String> ids
+    ) {
+        if (ids.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return userRepository
+            .findAllById(ids)
+            .collectList()
+            .flatMap(users ->
+                topicService
+                    .getTopicsByIds(userDtoAssembler.subscribedTopicIds(users))
+                    .map(topics -> {
+                        Map<String, UserResponseDTO> usersById =
+                            new HashMap<>();
+                        userDtoAssembler
+                            .toUserResponses(users, topics)
+                            .forEach(user -> usersById.put(user.getId(), user));
+                        return usersById;
+                    })
+            )
+            .onErrorMap(
+                e -> !(e instanceof DatabaseOperationException),
+                e -> {
+                    logger.error(
+                        "Error retrieving users by IDs: {}",
+                        e.getMessage(),
+                        e
+                    );
+                    return new DatabaseOperationException(
+                        "Failed to retrieve users"
+                    );
+                }
+            );
+    }
+
+    /**
+     * Retrieves the first page of comments of several articles with a
+     * single aggregation, then their authors with a single query.
+     *
+     * @param articleIds The unique identifiers of the articles
+     * @return First page of comments by article ID, oldest first.
+     *         Articles without comments are absent from the map.
+     * @throws DatabaseOperationException On retrieval failure
+     */
+    private Mono<Map<String, CursorPageResponseDTO<CommentResponseDTO>>> getFirstCommentPagesByArticleIds(
+        Collection<String> articleIds
+    ) {
+        return mongoTemplate
+            .aggregate(
+                commentService.firstCommentPagesAggregation(articleIds),
+                DBArticle.class,
+                ArticleCommentsRow.class
+            )
+            .collectMap(ArticleCommentsRow::id, commentService::firstCommentPage)
+            .flatMap(pages -> {
+                Set<String> authorIds = new HashSet<>();
+                pages
+                    .values()
+                    .forEach(page ->
+                        page
+                            .getItems()
+                            .forEach(comment -> {
+                                if (comment.getAuthorId() != null) {
+                                    authorIds.add(comment.getAuthorId());
+                                }
+                            })
+                    );
+                return getUsersByIds(authorIds).map(authors -> {
+                    Map<String, CursorPageResponseDTO<CommentResponseDTO>> commentPages =
+                        new HashMap<>();
+                    pages.forEach((articleId, page) ->
+                        commentPages.put(
+                            articleId,
+                            new CursorPageResponseDTO<>(
+                                page
+                                    .getItems()
+                                    .stream()
+                                    .map(comment ->
+                                        commentService.CommentResponseDTO(
+                                            comment,
+                                            authors.get(comment.getAuthorId())
+                                        )
+                                    )
+                                    .toList(),
+                                page.getNextCursor()
+                            )
+                        )
+                    );
+                    return commentPages;
+                });
+            })
+            .onErrorMap(
+                e -> !(e instanceof DatabaseOperationException),
+                e -> {
+                    logger.error(
+                        "Error retrieving comments for articles {}: {}",
+                        articleIds,
+                        e.getMessage(),
+                        e
+                    );
+                    return new DatabaseOperationException(
+                        "Failed to retrieve comments for articles"
+                    );
+                }
+            );
+    }
+
+    private static boolean isUnexpected(Throwable e) {
+        return !(
+            e instanceof BusinessLogicException ||
+            e instanceof ResourceNotFoundException
+        );
+    }
+}
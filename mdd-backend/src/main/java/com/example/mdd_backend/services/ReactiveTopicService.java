@@ -0,0 +1,83 @@
+package com.example.mdd_backend.services;
+
+import com.example.mdd_backend.dtos.TopicResponseDTO;
+import com.example.mdd_backend.errors.exceptions.DatabaseOperationException;
+import com.example.mdd_backend.mapper.DtoMapper;
+import com.example.mdd_backend.models.DBTopic;
+import com.example.mdd_backend.repositories.ReactiveTopicRepository;
+import java.util.Collection;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking topic reads, enabled by the {@code reactive} profile.
+ *
+ * Topics are read from Mongo on every call rather than from the
+ * {@link TopicService} cache, whose misses block.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveTopicService {
+
+    private static final Logger logger = LoggerFactory.getLogger(
+        ReactiveTopicService.class
+    );
+
+    private final ReactiveTopicRepository topicRepository;
+    private final DtoMapper dtoMapper;
+
+    public ReactiveTopicService(
+        ReactiveTopicRepository topicRepository,
+        DtoMapper dtoMapper
+    ) {
+        this.topicRepository = topicRepository;
+        this.dtoMapper = dtoMapper;
+    }
+
+    /**
+     * Retrieves all topics.
+     *
+     * @return Topics, emitted as they are read
+     * @throws DatabaseOperationException On retrieval failure
+     */
+    public Flux<TopicResponseDTO> getAllTopics() {
+        return topicRepository
+            .findAll()
+            .map(dtoMapper::toTopicResponse)
+            .onErrorMap(e -> {
+                logger.error("Error retrieving all topics: {}", e.getMessage(), e);
+                return new DatabaseOperationException("Failed to retrieve topics");
+            });
+    }
+
+    /**
+     * Retrieves several topics with a single query.
+     *
+     * @param topicIds The unique identifiers of the topics
+     * @return Topics keyed by ID. Unknown IDs are absent from the map.
+     * @throws DatabaseOperationException On retrieval failure
+     */
+    public Mono<Map<String, TopicResponseDTO>> getTopicsByIds(
+        Collection<String> topicIds
+    ) {
+        if (topicIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return topicRepository
+            .findAllById(topicIds)
+            .collectMap(DBTopic::getId, dtoMapper::toTopicResponse)
+            .onErrorMap(e -> {
+                logger.error(
+                    "Error retrieving topics by IDs: {}",
+                    e.getMessage(),
+                    e
+                );
+                return new DatabaseOperationException("Failed to retrieve topics");
+            });
+    }
+}
@@ -0,0 +1,451 @@
+package com.example.mdd_backend.services;
+
+import com.example.mdd_backend.models.DBArticle;
+import com.example.mdd_backend.models.DBTimeline;
+import com.example.mdd_backend.models.DBUser;
+import com.example.mdd_backend.services.pagination.KeysetCursor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service maintaining precomputed user timelines (fan-out on write).
+ *
+ * When enabled with {@code mdd.feed.timeline.enabled}, every new article
+ * is pushed to the timeline of each subscriber of its topic, so reading
+ * a feed is a single document read instead of one query per topic.
+ * All write methods are no-ops when the mode is disabled.
+ *
+ * A timeline is created only once, by the first read of the feed. Later
+ * writes update existing timelines and skip articles already present, so
+ * a fan-out and a backfill adding the same article never duplicate it.
+ */
+@Service
+public class TimelineService {
+
+    private static final Logger logger = LoggerFactory.getLogger(
+        TimelineService.class
+    );
+
+    private static final Sort NEWEST_FIRST = Sort.by(
+        Sort.Direction.DESC,
+        "createdAt",
+        "articleId"
+    );
+    /** Retries of a backfill when a concurrent write adds the same article. */
+    private static final int MAX_BACKFILL_ATTEMPTS = 3;
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final int capacity;
+    private final int batchSize;
+
+    public TimelineService(
+        MongoTemplate mongoTemplate,
+        @Value("${mdd.feed.timeline.enabled:false}") boolean enabled,
+        @Value("${mdd.feed.timeline.capacity:500}") int capacity,
+        @Value("${mdd.feed.timeline.batch-size:500}") int batchSize
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Appends a new article to the timeline of every subscriber of its
+     * topic, with one unordered bulk write per batch of subscribers.
+     * Subscribers without a timeline are skipped: theirs will include the
+     * article when it is built.
+     *
+     * @param article The newly created article
+     */
+    @Async("timelineExecutor")
+    public void fanOut(DBArticle article) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Query subscribers = new Query(
+                Criteria.where("subscribedTopicIds").is(article.getTopicId())
+            );
+            subscribers.fields().include("id");
+
+            DBTimeline.Entry entry = toEntry(article);
+            List<String> batch = new ArrayList<>(batchSize);
+            int fannedOut = 0;
+            try (
+                Stream<DBUser> users = mongoTemplate.stream(
+                    subscribers,
+                    DBUser.class
+                )
+            ) {
+                for (DBUser user : (Iterable<DBUser>) users::iterator) {
+                    batch.add(user.getId());
+                    if (batch.size() == batchSize) {
+                        fannedOut += pushToTimelines(batch, entry);
+                        batch.clear();
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                fannedOut += pushToTimelines(batch, entry);
+            }
+            logger.debug(
+                "Article {} fanned out to {} timelines",
+                article.getId(),
+                fannedOut
+            );
+        } catch (Exception e) {
+            logger.error(
+                "Error fanning out article {}: {}",
+                article.getId(),
+                e.getMessage(),
+                e
+            );
+        }
+    }
+
+    /**
+     * Adds the most recent articles of a topic to a user's timeline,
+     * after the user subscribed to it. Does nothing if the user has no
+     * timeline yet.
+     *
+     * @param userId The unique identifier of the user
+     * @param topicId The unique identifier of the topic
+     */
+    public void backfill(String userId, String topicId) {
+        if (!enabled) {
+            return;
+        }
+        addMissingEntries(userId, List.of(topicId));
+    }
+
+    /**
+     * Adds the most recent articles of some topics that a user's timeline
+     * lacks. Does nothing if the user has no timeline.
+     */
+    private void addMissingEntries(
+        String userId,
+        Collection<String> topicIds
+    ) {
+        List<DBTimeline.Entry> recent = findRecentEntries(topicIds);
+        for (int attempt = 0; attempt < MAX_BACKFILL_ATTEMPTS; attempt++) {
+            DBTimeline timeline = findArticleIds(userId);
+            if (timeline == null) {
+                return;
+            }
+            Set<String> present = timeline
+                .getEntries()
+                .stream()
+                .map(DBTimeline.Entry::getArticleId)
+                .collect(Collectors.toSet());
+            List<DBTimeline.Entry> missing = recent
+                .stream()
+                .filter(entry -> !present.contains(entry.getArticleId()))
+                .toList();
+            if (missing.isEmpty()) {
+                return;
+            }
+
+            // Only applies if no concurrent write added one of the entries
+            List<String> missingIds = missing
+                .stream()
+                .map(DBTimeline.Entry::getArticleId)
+                .toList();
+            long matched = mongoTemplate
+                .updateFirst(
+                    new Query(
+                        Criteria.where("userId")
+                            .is(userId)
+                            .and("entries.articleId")
+                            .nin(missingIds)
+                    ),
+                    pushEntries(missing.toArray()),
+                    DBTimeline.class
+                )
+                .getMatchedCount();
+            if (matched > 0) {
+                return;
+            }
+        }
+        logger.warn(
+            "Timeline backfill of topics {} for user {} abandoned after {} "
+                + "concurrent updates",
+            topicIds,
+            userId,
+            MAX_BACKFILL_ATTEMPTS
+        );
+    }
+
+    /**
+     * Removes the articles of a topic from a user's timeline,
+     * after the user unsubscribed from it.
+     *
+     * @param userId The unique identifier of the user
+     * @param topicId The unique identifier of the topic
+     */
+    public void prune(String userId, String topicId) {
+        if (!enabled) {
+            return;
+        }
+        mongoTemplate.updateFirst(
+            new Query(Criteria.where("userId").is(userId)),
+            new Update().pull("entries", new Document("topicId", topicId)),
+            DBTimeline.class
+        );
+    }
+
+    /**
+     * Removes deleted articles from every timeline, with a single update.
+     *
+     * @param articleIds The unique identifiers of the deleted articles
+     * @return Number of timelines updated
+     */
+    public long removeArticles(Collection<String> articleIds) {
+        if (!enabled || articleIds.isEmpty()) {
+            return 0;
+        }
+        return mongoTemplate
+            .updateMulti(
+                new Query(Criteria.where("entries.articleId").in(articleIds)),
+                new Update().pull(
+                    "entries",
+                    new Document(
+                        "articleId",
+                        new Document("$in", List.copyOf(articleIds))
+                    )
+                ),
+                DBTimeline.class
+            )
+            .getModifiedCount();
+    }
+
+    /**
+     * Removes the articles of a deleted topic from every timeline,
+     * with a single update.
+     *
+     * @param topicId The unique identifier of the deleted topic
+     * @return Number of timelines updated
+     */
+    public long removeTopic(String topicId) {
+        if (!enabled) {
+            return 0;
+        }
+        return mongoTemplate
+            .updateMulti(
+                new Query(Criteria.where("entries.topicId").is(topicId)),
+                new Update().pull("entries", new Document("topicId", topicId)),
+                DBTimeline.class
+            )
+            .getModifiedCount();
+    }
+
+    /**
+     * Deletes the timeline of a deleted user.
+     *
+     * @param userId The unique identifier of the deleted user
+     * @return Number of timelines deleted
+     */
+    public long deleteTimeline(String userId) {
+        if (!enabled) {
+            return 0;
+        }
+        return mongoTemplate
+            .remove(
+                new Query(Criteria.where("userId").is(userId)),
+                DBTimeline.class
+            )
+            .getDeletedCount();
+    }
+
+    /**
+     * Reads the timeline entries of a user that come after the cursor.
+     * Builds the timeline from the user's subscriptions on first read.
+     *
+     * Only the requested entries are returned by the server: the timeline
+     * is projected with a $filter on the cursor and a $slice to the limit,
+     * in an aggregation as servers before 4.4 reject expressions in find
+     * projections.
+     *
+     * @param userId The unique identifier of the user
+     * @param topicIds The topics the user is subscribed to
+     * @param after Cursor of the previous page, or null for the first page
+     * @param limit Maximum number of entries to return
+     * @return Entries, newest first
+     */
+    public List<DBTimeline.Entry> getEntries(
+        String userId,
+        Collection<String> topicIds,
+        KeysetCursor after,
+        int limit
+    ) {
+        DBTimeline timeline = findPage(userId, after, limit);
+        if (timeline == null) {
+            createTimeline(userId, topicIds);
+            timeline = findPage(userId, after, limit);
+        }
+        return timeline != null ? timeline.getEntries() : List.of();
+    }
+
+    private DBTimeline findPage(String userId, KeysetCursor after, int limit) {
+        Object entries = after == null
+            ? "$entries"
+            : new Document(
+                "$filter",
+                new Document("input", "$entries")
+                    .append("as", "entry")
+                    .append("cond", isAfter(after))
+            );
+        TypedAggregation<DBTimeline> page = Aggregation.newAggregation(
+            DBTimeline.class,
+            Aggregation.match(Criteria.where("userId").is(userId)),
+            Aggregation.project()
+                .and(context ->
+                    new Document("$slice", List.of(entries, limit))
+                )
+                .as("entries")
+        );
+        return mongoTemplate
+            .aggregate(page, DBTimeline.class)
+            .getUniqueMappedResult();
+    }
+
+    /**
+     * @return The timeline of a user with only the article IDs of its
+     *         entries, or null if the user has no timeline
+     */
+    private DBTimeline findArticleIds(String userId) {
+        Query query = new Query(Criteria.where("userId").is(userId));
+        query.fields().include("entries.articleId");
+        return mongoTemplate.findOne(query, DBTimeline.class);
+    }
+
+    /**
+     * Creates the timeline of a user from the most recent articles of
+     * their topics, unless a concurrent read already created it.
+     *
+     * Fan-outs skip users without a timeline, so an article saved between
+     * the read of the recent articles and the insert would be in neither.
+     * The recent articles are read again once the timeline exists, and
+     * those it lacks are added.
+     */
+    private void createTimeline(String userId, Collection<String> topicIds) {
+        DBTimeline timeline = new DBTimeline();
+        timeline.setUserId(userId);
+        if (!topicIds.isEmpty()) {
+            timeline.setEntries(
+                new ArrayList<>(findRecentEntries(topicIds))
+            );
+        }
+        try {
+            mongoTemplate.insert(timeline);
+        } catch (DuplicateKeyException e) {
+            logger.debug("Timeline of user {} already created", userId);
+        }
+        if (!topicIds.isEmpty()) {
+            addMissingEntries(userId, topicIds);
+        }
+    }
+
+    private List<DBTimeline.Entry> findRecentEntries(
+        Collection<String> topicIds
+    ) {
+        Query recent = new Query(Criteria.where("topicId").in(topicIds))
+            .with(Sort.by(Sort.Direction.DESC, "createdAt", "id"))
+            .limit(capacity);
+        recent.fields().include("id", "topicId", "createdAt");
+
+        return mongoTemplate
+            .find(recent, DBArticle.class)
+            .stream()
+            .map(TimelineService::toEntry)
+            .toList();
+    }
+
+    private int pushToTimelines(List<String> userIds, DBTimeline.Entry entry) {
+        BulkOperations bulk = mongoTemplate.bulkOps(
+            BulkOperations.BulkMode.UNORDERED,
+            DBTimeline.class
+        );
+        for (String userId : userIds) {
+            bulk.updateOne(
+                new Query(
+                    Criteria.where("userId")
+                        .is(userId)
+                        .and("entries.articleId")
+                        .ne(entry.getArticleId())
+                ),
+                pushEntries(entry)
+            );
+        }
+        return bulk.execute().getModifiedCount();
+    }
+
+    private Update pushEntries(Object... entries) {
+        return new Update()
+            .push("entries")
+            .sort(NEWEST_FIRST)
+            .slice(capacity)
+            .each(entries);
+    }
+
+    /**
+     * @return A $filter condition keeping the entries after the cursor,
+     *         in the timeline order
+     */
+    private static Document isAfter(KeysetCursor cursor) {
+        return new Document(
+            "$or",
+            List.of(
+                new Document(
+                    "$lt",
+                    List.of("$$entry.createdAt", cursor.createdAt())
+                ),
+                new Document(
+                    "$and",
+                    List.of(
+                        new Document(
+                            "$eq",
+                            List.of("$$entry.createdAt", cursor.createdAt())
+                        ),
+                        new Document(
+                            "$lt",
+                            List.of("$$entry.articleId", cursor.id())
+                        )
+                    )
+                )
+            )
+        );
+    }
+
+    private static DBTimeline.Entry toEntry(DBArticle article) {
+        DBTimeline.Entry entry = new DBTimeline.Entry();
+        entry.setArticleId(article.getId());
+        entry.setTopicId(article.getTopicId());
+        entry.setCreatedAt(article.getCreatedAt());
+        return entry;
+    }
+}
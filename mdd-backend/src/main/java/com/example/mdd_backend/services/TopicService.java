@@ -1,43 +1,112 @@
 package com.example.mdd_backend.services;
 
 import com.example.mdd_backend.dtos.ArticleResponseDTO;
+import com.example.mdd_backend.dtos.CacheStatsDTO;
+import com.example.mdd_backend.dtos.CascadeJobResponseDTO;
 import com.example.mdd_backend.dtos.TopicCreateRequestDTO;
 import com.example.mdd_backend.dtos.TopicResponseDTO;
+import com.example.mdd_backend.errors.exceptions.BusinessLogicException;
 import com.example.mdd_backend.errors.exceptions.DatabaseOperationException;
 import com.example.mdd_backend.errors.exceptions.ResourceNotFoundException;
+import com.example.mdd_backend.mapper.DtoMapper;
 import com.example.mdd_backend.models.DBTopic;
 import com.example.mdd_backend.repositories.TopicRepository;
+import io.micrometer.core.annotation.Timed;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
-import org.modelmapper.ModelMapper;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+/**
+ * Service for managing topics.
+ *
+ * Topics are few and rarely change, so they are all kept in memory: the
+ * cache is loaded at startup, updated by this service's writes and fully
+ * reloaded periodically to pick up writes made by other instances.
+ * Lookups of unknown IDs read through to Mongo. The autocomplete index
+ * of topic names is kept in step with the cache.
+ *
+ * Cached DTOs are shared between callers and must not be modified.
+ * Writers serialize on a lock rather than a monitor, so a reload blocked
+ * on Mongo doesn't pin the carrier of a virtual thread. Every removal
+ * bumps a generation counter, and a lookup that read through to Mongo
+ * only caches its result if no removal happened since its read, so a
+ * topic deleted meanwhile isn't cached again.
+ */
 @Service
+@Timed(value = "mdd.service", description = "Service method calls")
 public class TopicService {
 
     private static final Logger logger = LoggerFactory.getLogger(
         TopicService.class
     );
 
+    private static final String CACHE_NAME = "topics";
+
     private final TopicRepository topicRepository;
-    private final ModelMapper modelMapper;
+    private final DtoMapper dtoMapper;
+    private final CascadeDeletionService cascadeDeletionService;
+    private final AutocompleteService autocompleteService;
+
+    /** Immutable snapshot in storage order, replaced on every change. */
+    private volatile Map<String, TopicResponseDTO> topicsById = Map.of();
+    private volatile boolean loaded;
+    private final ReentrantLock cacheLock = new ReentrantLock();
+    private final AtomicLong removals = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
 
     public TopicService(
         TopicRepository topicRepository,
-        ModelMapper modelMapper
+        DtoMapper dtoMapper,
+        CascadeDeletionService cascadeDeletionService,
+        AutocompleteService autocompleteService
     ) {
         this.topicRepository = topicRepository;
-        this.modelMapper = modelMapper;
+        this.dtoMapper = dtoMapper;
+        this.cascadeDeletionService = cascadeDeletionService;
+        this.autocompleteService = autocompleteService;
+    }
+
+    /**
+     * Loads every topic into the cache, replacing its content.
+     * Runs at startup, then periodically.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+        initialDelayString = "${mdd.topics.cache.refresh-interval:PT5M}",
+        fixedDelayString = "${mdd.topics.cache.refresh-interval:PT5M}"
+    )
+    public void reloadCache() {
+        try {
+            loadCache();
+        } catch (Exception e) {
+            logger.error("Error loading topic cache: {}", e.getMessage(), e);
+        }
     }
 
     public TopicResponseDTO createTopic(TopicCreateRequestDTO topicDTO) {
         try {
-            DBTopic topic = modelMapper.map(topicDTO, DBTopic.class);
+            DBTopic topic = dtoMapper.toTopic(topicDTO);
             DBTopic savedTopic = topicRepository.save(topic);
 
-            return modelMapper.map(savedTopic, TopicResponseDTO.class);
+            TopicResponseDTO savedTopicDTO = dtoMapper.toTopicResponse(
+                savedTopic
+            );
+            cachePut(savedTopicDTO);
+            return savedTopicDTO;
         } catch (Exception e) {
             logger.error("Error creating topic: {}", e.getMessage(), e);
             throw new DatabaseOperationException("Failed to create topic");
@@ -46,6 +115,14 @@ public class TopicService {
 
     public TopicResponseDTO getTopicById(String topicId) {
         try {
+            TopicResponseDTO cached = cache().get(topicId);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+            misses.incrementAndGet();
+
+            long generation = removals.get();
             DBTopic topic = topicRepository
                 .findById(topicId)
                 .orElseThrow(() ->
@@ -54,7 +131,9 @@ public class TopicService {
                     )
                 );
 
-            return modelMapper.map(topic, TopicResponseDTO.class);
+            TopicResponseDTO topicDTO = dtoMapper.toTopicResponse(topic);
+            cacheLoaded(topicDTO, generation);
+            return topicDTO;
         } catch (ResourceNotFoundException e) {
             throw e;
         } catch (Exception e) {
@@ -63,22 +142,51 @@ public class TopicService {
         }
     }
 
-    public List<TopicResponseDTO> getAllTopics() {
+    public Map<String, TopicResponseDTO> getTopicsByIds(
+        Collection<String> topicIds
+    ) {
         try {
-            List<DBTopic> topics = topicRepository.findAll();
-            List<TopicResponseDTO> topicsDtos = topics
-                .stream()
-                .map(topic -> modelMapper.map(topic, TopicResponseDTO.class))
-                .collect(Collectors.toList());
+            Map<String, TopicResponseDTO> cache = cache();
+            Map<String, TopicResponseDTO> topics = new HashMap<>();
+            List<String> missing = new ArrayList<>();
+            for (String topicId : topicIds) {
+                TopicResponseDTO cached = cache.get(topicId);
+                if (cached != null) {
+                    topics.put(topicId, cached);
+                } else {
+                    missing.add(topicId);
+                }
+            }
+            hits.addAndGet(topics.size());
+            if (missing.isEmpty()) {
+                return topics;
+            }
 
-            return topicsDtos;
+            misses.addAndGet(missing.size());
+            long generation = removals.get();
+            for (DBTopic topic : topicRepository.findAllById(missing)) {
+                TopicResponseDTO topicDTO = dtoMapper.toTopicResponse(topic);
+                cacheLoaded(topicDTO, generation);
+                topics.put(topic.getId(), topicDTO);
+            }
+            return topics;
+        } catch (Exception e) {
+            logger.error("Error retrieving topics by IDs: {}", e.getMessage(), e);
+            throw new DatabaseOperationException("Failed to retrieve topics");
+        }
+    }
+
+    public List<TopicResponseDTO> getAllTopics() {
+        try {
+            hits.incrementAndGet();
+            return new ArrayList<>(cache().values());
         } catch (Exception e) {
             logger.error("Error retrieving all topics: {}", e.getMessage(), e);
             throw new DatabaseOperationException("Failed to retrieve topics");
         }
     }
 
-    public void deleteTheme(String topicId) {
+    public CascadeJobResponseDTO deleteTheme(String topicId) {
         try {
             topicRepository
                 .findById(topicId)
@@ -89,7 +197,9 @@ public class TopicService {
                 );
 
             topicRepository.deleteById(topicId);
-        } catch (ResourceNotFoundException e) {
+            cacheRemove(topicId);
+            return cascadeDeletionService.deleteTopicDependents(topicId);
+        } catch (ResourceNotFoundException | BusinessLogicException e) {
             throw e;
         } catch (Exception e) {
             logger.error(
@@ -101,4 +211,89 @@ public class TopicService {
             throw new DatabaseOperationException("Failed to delete topic");
         }
     }
+
+    public CacheStatsDTO getCacheStats() {
+        return new CacheStatsDTO(
+            CACHE_NAME,
+            topicsById.size(),
+            hits.get(),
+            misses.get(),
+            loads.get(),
+            0
+        );
+    }
+
+    private Map<String, TopicResponseDTO> cache() {
+        if (!loaded) {
+            loadCache();
+        }
+        return topicsById;
+    }
+
+    private void loadCache() {
+        cacheLock.lock();
+        try {
+            Map<String, TopicResponseDTO> topics = new LinkedHashMap<>();
+            for (DBTopic topic : topicRepository.findAll()) {
+                topics.put(
+                    topic.getId(),
+                    dtoMapper.toTopicResponse(topic)
+                );
+            }
+            topicsById = topics;
+            loaded = true;
+            autocompleteService.replaceTopics(topics.values());
+            loads.incrementAndGet();
+            logger.debug("Loaded {} topics into cache", topics.size());
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    private void cachePut(TopicResponseDTO topic) {
+        cacheLock.lock();
+        try {
+            Map<String, TopicResponseDTO> topics = new LinkedHashMap<>(
+                topicsById
+            );
+            topics.put(topic.getId(), topic);
+            topicsById = topics;
+            autocompleteService.topicSaved(topic.getId(), topic.getName());
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    /**
+     * Caches a topic read from Mongo, unless a topic was removed since
+     * the read started.
+     *
+     * @param generation Value of the removal counter before the read
+     */
+    private void cacheLoaded(TopicResponseDTO topic, long generation) {
+        cacheLock.lock();
+        try {
+            if (removals.get() != generation) {
+                return;
+            }
+            cachePut(topic);
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    private void cacheRemove(String topicId) {
+        cacheLock.lock();
+        try {
+            removals.incrementAndGet();
+            Map<String, TopicResponseDTO> topics = new LinkedHashMap<>(
+                topicsById
+            );
+            topics.remove(topicId);
+            topicsById = topics;
+            autocompleteService.topicDeleted(topicId);
+        } finally {
+            cacheLock.unlock();
+        }
+    }
 }
@@ -0,0 +1,81 @@
+package com.example.mdd_backend.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short-lived cache of login identifiers that matched no user.
+ *
+ * Repeated logins with unknown identifiers, as in credential stuffing,
+ * are rejected without querying Mongo until the entry expires. Writes
+ * that introduce an email or username made through {@link UserService}
+ * forget it, so new accounts can log in immediately.
+ *
+ * The cache is local to each instance, and only hears of registrations
+ * made through it: an account created through another instance is
+ * rejected here until the entry expires. The expiry is therefore kept to
+ * a few seconds, which still absorbs a burst of attempts.
+ *
+ * A lookup may miss a user registered while it runs and mark the new
+ * identifier unknown after it was forgotten. Lookups therefore read the
+ * {@link #generation()} before querying, and their mark is dropped if any
+ * identifier was forgotten since.
+ */
+@Component
+public class UnknownUserCache {
+
+    private final Cache<String, Boolean> unknownIdentifiers;
+    private final AtomicLong forgets = new AtomicLong();
+
+    public UnknownUserCache(
+        @Value("${mdd.security.unknown-users.maximum-size:10000}") long maximumSize,
+        @Value("${mdd.security.unknown-users.expire-after-write:PT5S}") Duration expireAfterWrite
+    ) {
+        this.unknownIdentifiers = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .build();
+    }
+
+    public boolean isUnknown(String identifier) {
+        return unknownIdentifiers.getIfPresent(identifier) != null;
+    }
+
+    /**
+     * @return Current generation, to read before looking up an identifier
+     */
+    public long generation() {
+        return forgets.get();
+    }
+
+    /**
+     * Remembers an identifier that matched no user, unless an identifier
+     * was forgotten since the lookup started.
+     *
+     * @param generation Generation read before the lookup
+     */
+    public void markUnknown(String identifier, long generation) {
+        unknownIdentifiers.put(identifier, Boolean.TRUE);
+        // Checked after the put, so a concurrent forget() either sees the
+        // entry and removes it, or bumps the generation before this check
+        if (forgets.get() != generation) {
+            unknownIdentifiers.invalidate(identifier);
+        }
+    }
+
+    /**
+     * @param identifiers Emails or usernames that now belong to a user
+     */
+    public void forget(String... identifiers) {
+        forgets.incrementAndGet();
+        for (String identifier : identifiers) {
+            if (identifier != null) {
+                unknownIdentifiers.invalidate(identifier);
+            }
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.mdd_backend.services;
+
+import com.example.mdd_backend.dtos.CacheStatsDTO;
+import com.example.mdd_backend.dtos.UserResponseDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of user DTOs, addressable by user ID and by email.
+ *
+ * Entries are evicted by size (W-TinyLFU) and expire a fixed time after
+ * being loaded, which bounds staleness for writes this instance doesn't
+ * see. Writes made through {@link UserService} invalidate their entries.
+ *
+ * A load may read a user just before a write and finish after the write
+ * invalidated it. Every invalidation bumps a generation counter: a load
+ * that sees a new generation once its results are cached removes them
+ * again, so the next read loads the written user.
+ *
+ * Cached DTOs are shared between callers and must not be modified.
+ */
+@Component
+public class UserCache {
+
+    private static final String CACHE_NAME = "users";
+
+    private final Cache<String, UserResponseDTO> usersById;
+    private final Cache<String, String> userIdsByEmail;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public UserCache(
+        @Value("${mdd.users.cache.maximum-size:10000}") long maximumSize,
+        @Value("${mdd.users.cache.expire-after-write:PT10M}") Duration expireAfterWrite,
+        @Value("${mdd.users.cache.record-stats:true}") boolean recordStats
+    ) {
+        Caffeine<Object, Object> usersBuilder = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite);
+        if (recordStats) {
+            usersBuilder.recordStats();
+        }
+        this.usersById = usersBuilder.build();
+        this.userIdsByEmail = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .build();
+    }
+
+    /**
+     * Returns the cached user, loading it on a miss.
+     *
+     * @param id The unique identifier of the user
+     * @param loader Loads the user, or returns null if it doesn't exist
+     * @return The user, or null if it doesn't exist
+     */
+    public UserResponseDTO getById(
+        String id,
+        Function<String, UserResponseDTO> loader
+    ) {
+        // Loads through the bulk path: a single-key get would run the loader
+        // while holding a map bin monitor, pinning virtual threads on Mongo.
+        long generation = invalidations.get();
+        UserResponseDTO user = load(List.of(id), ids -> {
+            UserResponseDTO loaded = loader.apply(id);
+            return loaded == null ? Map.of() : Map.of(id, loaded);
+        }).get(id);
+        if (user != null) {
+            cacheEmail(user.getEmail(), user.getId(), generation);
+        }
+        return user;
+    }
+
+    /**
+     * Returns the cached users, loading all the missing ones at once.
+     *
+     * @param ids The unique identifiers of the users
+     * @param loader Loads the missing users, keyed by ID
+     * @return Users keyed by ID. Unknown IDs are absent from the map.
+     */
+    public Map<String, UserResponseDTO> getAllById(
+        Collection<String> ids,
+        Function<Set<? extends String>, Map<String, UserResponseDTO>> loader
+    ) {
+        return load(ids, loader);
+    }
+
+    /**
+     * Returns the cached user with this email, loading it on a miss.
+     *
+     * @param email The email address of the user
+     * @param loader Loads the user, or returns null if it doesn't exist
+     * @return The user, or null if it doesn't exist
+     */
+    public UserResponseDTO getByEmail(
+        String email,
+        Function<String, UserResponseDTO> loader
+    ) {
+        String id = userIdsByEmail.getIfPresent(email);
+        if (id != null) {
+            UserResponseDTO user = usersById.getIfPresent(id);
+            if (user != null) {
+                return user;
+            }
+        }
+        long generation = invalidations.get();
+        UserResponseDTO user = loader.apply(email);
+        if (user != null) {
+            usersById.put(user.getId(), user);
+            if (invalidations.get() != generation) {
+                usersById.asMap().remove(user.getId(), user);
+            }
+            cacheEmail(email, user.getId(), generation);
+        }
+        return user;
+    }
+
+    /**
+     * Drops a user from the cache, under its ID and its emails.
+     *
+     * @param id The unique identifier of the user
+     * @param emails Emails the user had or has, which may not be cached
+     */
+    public void invalidate(String id, String... emails) {
+        invalidations.incrementAndGet();
+        UserResponseDTO user = usersById.asMap().remove(id);
+        if (user != null) {
+            userIdsByEmail.invalidate(user.getEmail());
+        }
+        for (String email : emails) {
+            if (email != null) {
+                userIdsByEmail.invalidate(email);
+            }
+        }
+    }
+
+    /**
+     * Drops every user, after a write affecting many of them.
+     */
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        usersById.invalidateAll();
+        userIdsByEmail.invalidateAll();
+    }
+
+    /**
+     * Returns the cached users, loading the missing ones, and uncaches the
+     * loaded ones if an invalidation happened during the load.
+     */
+    private Map<String, UserResponseDTO> load(
+        Collection<String> ids,
+        Function<Set<? extends String>, Map<String, UserResponseDTO>> loader
+    ) {
+        long generation = invalidations.get();
+        Map<String, UserResponseDTO> loaded = new HashMap<>();
+        Map<String, UserResponseDTO> users = usersById.getAll(ids, missing -> {
+            Map<String, UserResponseDTO> found = loader.apply(missing);
+            loaded.putAll(found);
+            return found;
+        });
+        if (!loaded.isEmpty() && invalidations.get() != generation) {
+            loaded.forEach((id, user) -> usersById.asMap().remove(id, user));
+        }
+        return users;
+    }
+
+    private void cacheEmail(String email, String id, long generation) {
+        userIdsByEmail.put(email, id);
+        if (invalidations.get() != generation) {
+            userIdsByEmail.asMap().remove(email, id);
+        }
+    }
+
+    public CacheStatsDTO getStats() {
+        CacheStats stats = usersById.stats();
+        return new CacheStatsDTO(
+            CACHE_NAME,
+            usersById.estimatedSize(),
+            stats.hitCount(),
+            stats.missCount(),
+            stats.loadCount(),
+            stats.evictionCount()
+        );
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.mdd_backend.services;
+
+import com.example.mdd_backend.dtos.TopicResponseDTO;
+import com.example.mdd_backend.dtos.UserResponseDTO;
+import com.example.mdd_backend.mapper.DtoMapper;
+import com.example.mdd_backend.models.DBUser;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds user response DTOs with their subscriptions, for the blocking and
+ * reactive read paths.
+ *
+ * Callers collect the subscribed topic IDs of a batch of users, look the
+ * topics up with a single query in their own style, then pass them here.
+ */
+@Component
+public class UserDtoAssembler {
+
+    private final DtoMapper dtoMapper;
+    private final DanglingSubscriptionPruner subscriptionPruner;
+
+    public UserDtoAssembler(
+        DtoMapper dtoMapper,
+        DanglingSubscriptionPruner subscriptionPruner
+    ) {
+        this.dtoMapper = dtoMapper;
+        this.subscriptionPruner = subscriptionPruner;
+    }
+
+    /**
+     * @param users Database user entities
+     * @return IDs of the topics any of the users is subscribed to
+     */
+    public Set<String> subscribedTopicIds(Collection<DBUser> users) {
+        Set<String> topicIds = new HashSet<>();
+        for (DBUser user : users) {
+            if (user.getSubscribedTopicIds() != null) {
+                topicIds.addAll(user.getSubscribedTopicIds());
+            }
+        }
+        return topicIds;
+    }
+
+    /**
+     * Builds user response DTOs with subscription details.
+     *
+     * Subscriptions are kept in stored order. Subscriptions to topics that
+     * no longer exist are left out and pruned in the background.
+     *
+     * @param users Database user entities
+     * @param topics Subscribed topics of the users, keyed by ID
+     * @return User response DTOs, in the input order
+     */
+    public List<UserResponseDTO> toUserResponses(
+        List<DBUser> users,
+        Map<String, TopicResponseDTO> topics
+    ) {
+        List<UserResponseDTO> userDTOs = new ArrayList<>(users.size());
+        for (DBUser user : users) {
+            UserResponseDTO userDTO = dtoMapper.toUserResponse(user);
+
+            List<TopicResponseDTO> themeDTOs = new ArrayList<>();
+            List<String> danglingIds = new ArrayList<>();
+            if (user.getSubscribedTopicIds() != null) {
+                for (String themeId : user.getSubscribedTopicIds()) {
+                    TopicResponseDTO theme = topics.get(themeId);
+                    if (theme != null) {
+                        themeDTOs.add(theme);
+                    } else {
+                        danglingIds.add(themeId);
+                    }
+                }
+            }
+            if (!danglingIds.isEmpty()) {
+                subscriptionPruner.prune(user.getId(), danglingIds);
+            }
+            userDTO.setSubscriptions(themeDTOs);
+            userDTOs.add(userDTO);
+        }
+        return userDTOs;
+    }
+}
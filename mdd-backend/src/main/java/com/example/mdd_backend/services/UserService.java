@@ -1,5 +1,6 @@
 package com.example.mdd_backend.services;
 
+import com.example.mdd_backend.dtos.CascadeJobResponseDTO;
 import com.example.mdd_backend.dtos.TopicResponseDTO;
 import com.example.mdd_backend.dtos.UserCreateRequestDTO;
 import com.example.mdd_backend.dtos.UserResponseDTO;
@@ -8,18 +9,29 @@ import com.example.mdd_backend.errors.exceptions.BusinessLogicException;
 import com.example.mdd_backend.errors.exceptions.DatabaseOperationException;
 import com.example.mdd_backend.errors.exceptions.DuplicateResourceException;
 import com.example.mdd_backend.errors.exceptions.ResourceNotFoundException;
-import com.example.mdd_backend.models.DBTopic;
+import com.example.mdd_backend.errors.exceptions.ServiceUnavailableException;
+import com.example.mdd_backend.mapper.DtoMapper;
 import com.example.mdd_backend.models.DBUser;
-import com.example.mdd_backend.repositories.TopicRepository;
 import com.example.mdd_backend.repositories.UserRepository;
-import java.util.ArrayList;
+import io.micrometer.core.annotation.Timed;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
-import org.modelmapper.ModelMapper;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.NestedExceptionUtils;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -29,32 +41,63 @@ import org.springframework.stereotype.Service;
  * Handles user creation, updates, topic subscriptions and retrieval operations.
  */
 @Service
+@Timed(value = "mdd.service", description = "Service method calls")
 public class UserService {
 
     private static final Logger logger = LoggerFactory.getLogger(
         UserService.class
     );
 
+    /** Index name in "E11000 duplicate key error ... index: <name> dup key: ..." */
+    private static final Pattern DUPLICATE_KEY_INDEX = Pattern.compile(
+        "index: (\\S+) dup key"
+    );
+
     private final UserRepository userRepository;
-    private final TopicRepository themeRepository;
+    private final MongoTemplate mongoTemplate;
+    private final TopicService topicService;
     private final PasswordEncoder passwordEncoder;
-    private final ModelMapper modelMapper;
+    private final DtoMapper dtoMapper;
+    private final TimelineService timelineService;
+    private final CascadeDeletionService cascadeDeletionService;
+    private final UserCache userCache;
+    private final UserDtoAssembler userDtoAssembler;
+    private final UnknownUserCache unknownUserCache;
+    private final AutocompleteService autocompleteService;
 
     public UserService(
         UserRepository userRepository,
-        TopicRepository themeRepository,
+        MongoTemplate mongoTemplate,
+        TopicService topicService,
         PasswordEncoder passwordEncoder,
-        ModelMapper modelMapper
+        DtoMapper dtoMapper,
+        TimelineService timelineService,
+        CascadeDeletionService cascadeDeletionService,
+        UserCache userCache,
+        UserDtoAssembler userDtoAssembler,
+        UnknownUserCache unknownUserCache,
+        AutocompleteService autocompleteService
     ) {
         this.userRepository = userRepository;
-        this.themeRepository = themeRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.topicService = topicService;
         this.passwordEncoder = passwordEncoder;
-        this.modelMapper = modelMapper;
+        this.dtoMapper = dtoMapper;
+        this.timelineService = timelineService;
+        this.cascadeDeletionService = cascadeDeletionService;
+        this.userCache = userCache;
+        this.userDtoAssembler = userDtoAssembler;
+        this.unknownUserCache = unknownUserCache;
+        this.autocompleteService = autocompleteService;
     }
 
     /**
      * Creates a new user account.
      *
+     * The account is written with a single insert: the unique indexes on
+     * email and username reject duplicates, even between concurrent
+     * registrations.
+     *
      * @param userDTO User registration data
      * @return Created user with generated ID
      * @throws DuplicateResourceException If email or username already exists
@@ -62,41 +105,29 @@ public class UserService {
      */
     public UserResponseDTO createUser(UserCreateRequestDTO userDTO) {
         try {
-            if (userRepository.findByEmail(userDTO.getEmail()).isPresent()) {
-                logger.warn(
-                    "User creation failed: Email already exists: {}",
-                    userDTO.getEmail()
-                );
-                throw new DuplicateResourceException(
-                    "Cet email existe déjà"
-                );
-            }
-            
-            if (userRepository.findByUsername(userDTO.getUsername()).isPresent()) {
-                logger.warn(
-                    "User creation failed: Username already exists: {}",
-                    userDTO.getUsername()
-                );
-                throw new DuplicateResourceException(
-                    "Ce nom d'utilisateur existe déjà"
-                );
-            }
-            
-            DBUser user = modelMapper.map(userDTO, DBUser.class);
+            DBUser user = dtoMapper.toUser(userDTO);
             user.setPassword(passwordEncoder.encode(user.getPassword()));
 
-            DBUser savedUser = userRepository.save(user);
-            return modelMapper.map(savedUser, UserResponseDTO.class);
-        } catch (DuplicateResourceException e) {
+            DBUser savedUser = userRepository.insert(user);
+            unknownUserCache.forget(
+                savedUser.getEmail(),
+                savedUser.getUsername()
+            );
+            autocompleteService.userSaved(
+                savedUser.getId(),
+                savedUser.getUsername()
+            );
+            return dtoMapper.toUserResponse(savedUser);
+        } catch (ServiceUnavailableException e) {
             throw e;
         } catch (DuplicateKeyException e) {
+            DuplicateResourceException duplicate = duplicateUser(e);
             logger.warn(
-                "User creation failed: Email or username already exists: {}",
-                userDTO.getEmail()
-            );
-            throw new DuplicateResourceException(
-                "Cet email ou ce nom d'utilisateur existe déjà"
+                "User creation failed for {}: {}",
+                userDTO.getEmail(),
+                duplicate.getMessage()
             );
+            throw duplicate;
         } catch (Exception e) {
             logger.error("Error creating user: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to create user");
@@ -112,12 +143,7 @@ public class UserService {
     public List<UserResponseDTO> getAllUsers() {
         try {
             List<DBUser> users = userRepository.findAll();
-            return users
-                .stream()
-                .map(user -> {
-                    return buildUserDto(user);
-                })
-                .collect(Collectors.toList());
+            return buildUserDtos(users);
         } catch (Exception e) {
             logger.error("Error retrieving all users: {}", e.getMessage(), e);
             throw new DatabaseOperationException("Failed to retrieve users");
@@ -134,15 +160,15 @@ public class UserService {
      */
     public UserResponseDTO getUserById(String id) {
         try {
-            DBUser user = userRepository
-                .findById(id)
-                .orElseThrow(() ->
-                    new ResourceNotFoundException(
-                        "user not found with ID : " + id
-                    )
+            UserResponseDTO user = userCache.getById(id, key ->
+                userRepository.findById(key).map(this::buildUserDto).orElse(null)
+            );
+            if (user == null) {
+                throw new ResourceNotFoundException(
+                    "user not found with ID : " + id
                 );
-
-            return buildUserDto(user);
+            }
+            return user;
         } catch (ResourceNotFoundException e) {
             throw e;
         } catch (Exception e) {
@@ -156,6 +182,58 @@ public class UserService {
         }
     }
 
+    /**
+     * Retrieves several users, with a single query for those not cached.
+     *
+     * @param ids The unique identifiers of the users
+     * @return Users with subscription details, keyed by ID.
+     *         Unknown IDs are absent from the map.
+     * @throws DatabaseOperationException On retrieval failure
+     */
+    public Map<String, UserResponseDTO> getUsersByIds(Collection<String> ids) {
+        try {
+            return userCache.getAllById(ids, missingIds -> {
+                List<DBUser> users = userRepository.findAllById(
+                    List.copyOf(missingIds)
+                );
+                List<UserResponseDTO> userDTOs = buildUserDtos(users);
+                Map<String, UserResponseDTO> usersById = new HashMap<>();
+                for (UserResponseDTO userDTO : userDTOs) {
+                    usersById.put(userDTO.getId(), userDTO);
+                }
+                return usersById;
+            });
+        } catch (Exception e) {
+            logger.error("Error retrieving users by IDs: {}", e.getMessage(), e);
+            throw new DatabaseOperationException("Failed to retrieve users");
+        }
+    }
+
+    /**
+     * Retrieves the usernames of several users with a single query,
+     * reading only the username field.
+     *
+     * @param ids The unique identifiers of the users
+     * @return Usernames keyed by user ID. Unknown IDs are absent from the map.
+     * @throws DatabaseOperationException On retrieval failure
+     */
+    public Map<String, String> getUsernamesByIds(Collection<String> ids) {
+        try {
+            Map<String, String> usernames = new HashMap<>();
+            for (DBUser user : userRepository.findUsernamesByIdIn(ids)) {
+                usernames.put(user.getId(), user.getUsername());
+            }
+            return usernames;
+        } catch (Exception e) {
+            logger.error(
+                "Error retrieving usernames by IDs: {}",
+                e.getMessage(),
+                e
+            );
+            throw new DatabaseOperationException("Failed to retrieve users");
+        }
+    }
+
     /**
      * Retrieves a user by their email address.
      *
@@ -166,15 +244,18 @@ public class UserService {
      */
     public UserResponseDTO getUserByEmail(String email) {
         try {
-            DBUser user = userRepository
-                .findByEmail(email)
-                .orElseThrow(() ->
-                    new ResourceNotFoundException(
-                        "user not found with email : " + email
-                    )
+            UserResponseDTO user = userCache.getByEmail(email, key ->
+                userRepository
+                    .findByEmail(key)
+                    .map(this::buildUserDto)
+                    .orElse(null)
+            );
+            if (user == null) {
+                throw new ResourceNotFoundException(
+                    "user not found with email : " + email
                 );
-
-            return buildUserDto(user);
+            }
+            return user;
         } catch (ResourceNotFoundException e) {
             throw e;
         } catch (Exception e) {
@@ -191,6 +272,9 @@ public class UserService {
     /**
      * Subscribes a user to a topic.
      *
+     * The subscription is added with a single conditional update,
+     * which returns the updated user.
+     *
      * @param themeId The unique identifier of the topic
      * @param userEmail The email of the user to subscribe
      * @return Updated user with new subscription
@@ -202,33 +286,27 @@ public class UserService {
         String userEmail
     ) {
         try {
-            DBUser user = userRepository
-                .findByEmail(userEmail)
-                .orElseThrow(() ->
-                    new ResourceNotFoundException(
-                        "User not found with email : " + userEmail
-                    )
-                );
-            DBTopic theme = themeRepository
-                .findById(themeId)
-                .orElseThrow(() ->
-                    new ResourceNotFoundException(
-                        "theme not found with ID : " + themeId
-                    )
-                );
-            List<String> themeExisting = user.getSubscribedTopicIds();
-
-            if (themeExisting == null) {
-                themeExisting = new ArrayList<>();
-                user.setSubscribedTopicIds(themeExisting);
-            }
-
-            if (!themeExisting.contains(theme.getId())) {
-                themeExisting.add(theme.getId());
-                userRepository.save(user);
+            TopicResponseDTO theme = topicService.getTopicById(themeId);
+
+            DBUser user = mongoTemplate.findAndModify(
+                new Query(
+                    Criteria.where("email")
+                        .is(userEmail)
+                        .and("subscribedTopicIds")
+                        .ne(theme.getId())
+                ),
+                new Update().addToSet("subscribedTopicIds", theme.getId()),
+                FindAndModifyOptions.options().returnNew(true),
+                DBUser.class
+            );
+            if (user == null) {
+                // Unknown user, or already subscribed: nothing changed.
+                return getUserByEmail(userEmail);
             }
 
-            return getUserByEmail(userEmail);
+            userCache.invalidate(user.getId(), userEmail);
+            timelineService.backfill(user.getId(), theme.getId());
+            return buildUserDto(user);
         } catch (ResourceNotFoundException e) {
             throw e;
         } catch (Exception e) {
@@ -246,6 +324,9 @@ public class UserService {
     /**
      * Unsubscribes a user from a topic.
      *
+     * The subscription is pulled with a single conditional update,
+     * which returns the updated user.
+     *
      * @param themeId The unique identifier of the topic
      * @param userEmail The email of the user to unsubscribe
      * @return Updated user without the subscription
@@ -257,22 +338,25 @@ public class UserService {
         String userEmail
     ) {
         try {
-            DBUser user = userRepository
-                .findByEmail(userEmail)
-                .orElseThrow(() ->
-                    new ResourceNotFoundException(
-                        "User not found with ID : " + userEmail
-                    )
-                );
-
-            List<String> subscriptions = user.getSubscribedTopicIds();
-            if (subscriptions != null) {
-                boolean removed = subscriptions.remove(themeId);
-                if (removed) {
-                    userRepository.save(user);
-                }
+            DBUser user = mongoTemplate.findAndModify(
+                new Query(
+                    Criteria.where("email")
+                        .is(userEmail)
+                        .and("subscribedTopicIds")
+                        .is(themeId)
+                ),
+                new Update().pull("subscribedTopicIds", themeId),
+                FindAndModifyOptions.options().returnNew(true),
+                DBUser.class
+            );
+            if (user == null) {
+                // Unknown user, or not subscribed: nothing changed.
+                return getUserByEmail(userEmail);
             }
-            return getUserByEmail(userEmail);
+
+            userCache.invalidate(user.getId(), userEmail);
+            timelineService.prune(user.getId(), themeId);
+            return buildUserDto(user);
         } catch (ResourceNotFoundException e) {
             throw e;
         } catch (Exception e) {
@@ -287,16 +371,94 @@ public class UserService {
         }
     }
 
+    /**
+     * Replaces all the subscriptions of a user.
+     *
+     * The new list is written with a single update returning the previous
+     * document, from which the added and removed topics are derived.
+     *
+     * @param topicIds The topics to be subscribed to, in display order
+     * @param userEmail The email of the user
+     * @return Updated user with exactly these subscriptions
+     * @throws ResourceNotFoundException If user or one of the topics doesn't exist
+     * @throws BusinessLogicException On update failure
+     */
+    public UserResponseDTO setUserSubscriptions(
+        List<String> topicIds,
+        String userEmail
+    ) {
+        try {
+            List<String> subscriptions = List.copyOf(
+                new LinkedHashSet<>(topicIds)
+            );
+            Map<String, TopicResponseDTO> topics = topicService.getTopicsByIds(
+                subscriptions
+            );
+            for (String topicId : subscriptions) {
+                if (!topics.containsKey(topicId)) {
+                    throw new ResourceNotFoundException(
+                        "Theme not found with ID : " + topicId
+                    );
+                }
+            }
+
+            DBUser previous = mongoTemplate.findAndModify(
+                new Query(Criteria.where("email").is(userEmail)),
+                new Update().set("subscribedTopicIds", subscriptions),
+                FindAndModifyOptions.options().returnNew(false),
+                DBUser.class
+            );
+            if (previous == null) {
+                throw new ResourceNotFoundException(
+                    "User not found with email : " + userEmail
+                );
+            }
+            userCache.invalidate(previous.getId(), userEmail);
+
+            List<String> previousSubscriptions =
+                previous.getSubscribedTopicIds() != null
+                    ? previous.getSubscribedTopicIds()
+                    : List.of();
+            for (String topicId : subscriptions) {
+                if (!previousSubscriptions.contains(topicId)) {
+                    timelineService.backfill(previous.getId(), topicId);
+                }
+            }
+            for (String topicId : previousSubscriptions) {
+                if (!subscriptions.contains(topicId)) {
+                    timelineService.prune(previous.getId(), topicId);
+                }
+            }
+
+            previous.setSubscribedTopicIds(subscriptions);
+            return buildUserDto(previous);
+        } catch (ResourceNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error(
+                "Error setting user subscriptions: {}",
+                e.getMessage(),
+                e
+            );
+            throw new BusinessLogicException(
+                "Failed to update user subscriptions"
+            );
+        }
+    }
+
     /**
      * Deletes a user by ID.
+     * Their articles, comments and timeline are deleted in the background.
      *
      * @param userId The unique identifier of the user to delete
+     * @return The cascade job deleting the user's content
      * @throws ResourceNotFoundException If user doesn't exist
+     * @throws BusinessLogicException If too many cascades are already queued
      * @throws DatabaseOperationException On deletion failure
      */
-    public void deleteUser(String userId) {
+    public CascadeJobResponseDTO deleteUser(String userId) {
         try {
-            userRepository
+            DBUser user = userRepository
                 .findById(userId)
                 .orElseThrow(() ->
                     new ResourceNotFoundException(
@@ -305,7 +467,10 @@ public class UserService {
                 );
 
             userRepository.deleteById(userId);
-        } catch (ResourceNotFoundException e) {
+            userCache.invalidate(userId, user.getEmail());
+            autocompleteService.userDeleted(userId);
+            return cascadeDeletionService.deleteUserDependents(userId);
+        } catch (ResourceNotFoundException | BusinessLogicException e) {
             throw e;
         } catch (Exception e) {
             logger.error(
@@ -342,6 +507,7 @@ public class UserService {
                         "User not found with ID: " + userId
                     )
                 );
+            String previousEmail = user.getEmail();
 
             if (
                 updateUserDTO.getEmail() != null &&
@@ -376,8 +542,21 @@ public class UserService {
             }
 
             DBUser savedUser = userRepository.save(user);
+            userCache.invalidate(savedUser.getId(), previousEmail);
+            unknownUserCache.forget(
+                savedUser.getEmail(),
+                savedUser.getUsername()
+            );
+            autocompleteService.userSaved(
+                savedUser.getId(),
+                savedUser.getUsername()
+            );
             return buildUserDto(savedUser);
-        } catch (ResourceNotFoundException | DuplicateResourceException e) {
+        } catch (
+            ResourceNotFoundException |
+            DuplicateResourceException |
+            ServiceUnavailableException e
+        ) {
             throw e;
         } catch (Exception e) {
             logger.error("Error while update user: {}", e.getMessage(), e);
@@ -409,6 +588,7 @@ public class UserService {
                                     "User not found with email: " + userEmail
                             )
                     );
+            String previousEmail = user.getEmail();
             if (
                     updateUserDTO.getEmail() != null &&
                             !updateUserDTO.getEmail().equals(user.getEmail())
@@ -443,8 +623,21 @@ public class UserService {
             }
 
             DBUser savedUser = userRepository.save(user);
+            userCache.invalidate(savedUser.getId(), previousEmail);
+            unknownUserCache.forget(
+                savedUser.getEmail(),
+                savedUser.getUsername()
+            );
+            autocompleteService.userSaved(
+                savedUser.getId(),
+                savedUser.getUsername()
+            );
             return buildUserDto(savedUser);
-        } catch (ResourceNotFoundException | DuplicateResourceException e) {
+        } catch (
+            ResourceNotFoundException |
+            DuplicateResourceException |
+            ServiceUnavailableException e
+        ) {
             throw e;
         } catch (Exception e) {
             logger.error("Error while update user: {}", e.getMessage(), e);
@@ -460,48 +653,27 @@ public class UserService {
      * @throws BusinessLogicException On mapping failure
      */
     private UserResponseDTO buildUserDto(DBUser user) {
-        try {
-            UserResponseDTO userDTO = modelMapper.map(
-                user,
-                UserResponseDTO.class
-            );
+        return buildUserDtos(List.of(user)).get(0);
+    }
 
-            if (
-                user.getSubscribedTopicIds() != null &&
-                !user.getSubscribedTopicIds().isEmpty()
-            ) {
-                List<TopicResponseDTO> themeDTOs = user
-                    .getSubscribedTopicIds()
-                    .stream()
-                    .map(themeId -> {
-                        try {
-                            Optional<DBTopic> themeOptional =
-                                themeRepository.findById(themeId);
-                            return themeOptional
-                                .map(theme ->
-                                    modelMapper.map(
-                                        theme,
-                                        TopicResponseDTO.class
-                                    )
-                                )
-                                .orElse(null);
-                        } catch (Exception e) {
-                            logger.warn(
-                                "Error retrieving topic with ID {}: {}",
-                                themeId,
-                                e.getMessage()
-                            );
-                            return null;
-                        }
-                    })
-                    .filter(themeDTO -> themeDTO != null)
-                    .collect(Collectors.toList());
-
-                userDTO.setSubscriptions(themeDTOs);
-            } else {
-                userDTO.setSubscriptions(new ArrayList<>());
-            }
-            return userDTO;
+    /**
+     * Builds user response DTOs with subscription details.
+     *
+     * Subscribed topics of all users are resolved with a single lookup and
+     * kept in stored order. Subscriptions to topics that no longer exist
+     * are left out and pruned in the background.
+     *
+     * @param users Database user entities
+     * @return User response DTOs, in the input order
+     * @throws BusinessLogicException On mapping failure
+     */
+    private List<UserResponseDTO> buildUserDtos(List<DBUser> users) {
+        try {
+            Set<String> topicIds = userDtoAssembler.subscribedTopicIds(users);
+            Map<String, TopicResponseDTO> topics = topicIds.isEmpty()
+                ? Map.of()
+                : topicService.getTopicsByIds(topicIds);
+            return userDtoAssembler.toUserResponses(users, topics);
         } catch (Exception e) {
             logger.error("Error building user DTO: {}", e.getMessage(), e);
             throw new BusinessLogicException("Failed to map user data");
@@ -515,4 +687,33 @@ public class UserService {
     public boolean existsByUsername(String username) {
         return userRepository.findByUsername(username).isPresent();
     }
+
+    /**
+     * Tells which unique index rejected a user write, from the index name
+     * the server reports in the duplicate key error.
+     */
+    private static DuplicateResourceException duplicateUser(
+        DuplicateKeyException e
+    ) {
+        String message = NestedExceptionUtils.getMostSpecificCause(e)
+            .getMessage();
+        Matcher index = message == null
+            ? null
+            : DUPLICATE_KEY_INDEX.matcher(message);
+        String indexName = index != null && index.find()
+            ? index.group(1)
+            : null;
+
+        if (DBUser.EMAIL_INDEX.equals(indexName)) {
+            return new DuplicateResourceException("Cet email existe déjà");
+        }
+        if (DBUser.USERNAME_INDEX.equals(indexName)) {
+            return new DuplicateResourceException(
+                "Ce nom d'utilisateur existe déjà"
+            );
+        }
+        return new DuplicateResourceException(
+            "Cet email ou ce nom d'utilisateur existe déjà"
+        );
+    }
 }
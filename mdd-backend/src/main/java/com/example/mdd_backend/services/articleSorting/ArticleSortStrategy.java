@@ -1,8 +1,21 @@
 package com.example.mdd_backend.services.articleSorting;
 
+import com.example.mdd_backend.models.DBArticle;
+import com.example.mdd_backend.services.pagination.KeysetCursor;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
 
 public interface ArticleSortStrategy {
     boolean supports(SortType type);
     Sort getSort();
+
+    /**
+     * Range predicate selecting the articles that come after the cursor
+     * in this strategy's order.
+     */
+    Criteria after(KeysetCursor cursor);
+
+    default KeysetCursor cursorOf(DBArticle article) {
+        return new KeysetCursor(article.getCreatedAt(), article.getId());
+    }
 }
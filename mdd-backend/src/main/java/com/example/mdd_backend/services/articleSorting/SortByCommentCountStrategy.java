@@ -0,0 +1,59 @@
+package com.example.mdd_backend.services.articleSorting;
+
+import com.example.mdd_backend.errors.exceptions.ValidationException;
+import com.example.mdd_backend.models.DBArticle;
+import com.example.mdd_backend.services.pagination.KeysetCursor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sorts articles by decreasing number of comments.
+ *
+ * Relies on every article having a commentCount field: one without it
+ * sorts after all others but never matches the cursor predicate.
+ * {@link com.example.mdd_backend.services.CommentCountReconciler} sets the
+ * field on such articles at startup.
+ */
+@Component
+public class SortByCommentCountStrategy implements ArticleSortStrategy {
+
+    @Override
+    public boolean supports(SortType type) {
+        return type == SortType.MOST_COMMENTED;
+    }
+
+    @Override
+    public Sort getSort() {
+        return Sort.by(Sort.Direction.DESC, "commentCount", "createdAt", "id");
+    }
+
+    @Override
+    public Criteria after(KeysetCursor cursor) {
+        if (cursor.rank() == null) {
+            throw new ValidationException("Cursor is not a comment count cursor");
+        }
+        return new Criteria().orOperator(
+            Criteria.where("commentCount").lt(cursor.rank()),
+            Criteria.where("commentCount")
+                .is(cursor.rank())
+                .and("createdAt")
+                .lt(cursor.createdAt()),
+            Criteria.where("commentCount")
+                .is(cursor.rank())
+                .and("createdAt")
+                .is(cursor.createdAt())
+                .and("id")
+                .lt(cursor.id())
+        );
+    }
+
+    @Override
+    public KeysetCursor cursorOf(DBArticle article) {
+        return new KeysetCursor(
+            article.getCreatedAt(),
+            article.getId(),
+            article.getCommentCount()
+        );
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.mdd_backend.services.articleSorting;
 
+import com.example.mdd_backend.services.pagination.KeysetCursor;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -13,6 +15,17 @@ public class SortByDateAscStrategy implements ArticleSortStrategy {
 
     @Override
     public Sort getSort() {
-        return Sort.by(Sort.Direction.ASC, "createdAt");
+        return Sort.by(Sort.Direction.ASC, "createdAt", "id");
+    }
+
+    @Override
+    public Criteria after(KeysetCursor cursor) {
+        return new Criteria().orOperator(
+            Criteria.where("createdAt").gt(cursor.createdAt()),
+            Criteria.where("createdAt")
+                .is(cursor.createdAt())
+                .and("id")
+                .gt(cursor.id())
+        );
     }
 }
@@ -1,6 +1,8 @@
 package com.example.mdd_backend.services.articleSorting;
 
+import com.example.mdd_backend.services.pagination.KeysetCursor;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -13,6 +15,17 @@ public class SortByDateDescStrategy implements ArticleSortStrategy {
 
     @Override
     public Sort getSort() {
-        return Sort.by(Sort.Direction.DESC, "createdAt");
+        return Sort.by(Sort.Direction.DESC, "createdAt", "id");
+    }
+
+    @Override
+    public Criteria after(KeysetCursor cursor) {
+        return new Criteria().orOperator(
+            Criteria.where("createdAt").lt(cursor.createdAt()),
+            Criteria.where("createdAt")
+                .is(cursor.createdAt())
+                .and("id")
+                .lt(cursor.id())
+        );
     }
 }
@@ -2,7 +2,8 @@ package com.example.mdd_backend.services.articleSorting;
 
 public enum SortType {
     DATE_ASC,
-    DATE_DESC;
+    DATE_DESC,
+    MOST_COMMENTED;
 
     public static SortType fromString(String key) {
         try{
@@ -0,0 +1,134 @@
+package com.example.mdd_backend.services.cascade;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of an asynchronous cascade deletion.
+ *
+ * Counters are updated by the worker thread after each batch and read
+ * concurrently by the job endpoints.
+ */
+public class CascadeJob {
+
+    public enum Type {
+        TOPIC,
+        USER,
+    }
+
+    public enum Status {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED,
+    }
+
+    private final String id = UUID.randomUUID().toString();
+    private final Type type;
+    private final String targetId;
+    private final Date createdAt = new Date();
+
+    private volatile Status status = Status.PENDING;
+    private volatile Date startedAt;
+    private volatile Date finishedAt;
+    private volatile String error;
+
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong articlesDeleted = new AtomicLong();
+    private final AtomicLong commentsDeleted = new AtomicLong();
+    private final AtomicLong subscriptionsRemoved = new AtomicLong();
+    private final AtomicLong timelinesUpdated = new AtomicLong();
+
+    public CascadeJob(Type type, String targetId) {
+        this.type = type;
+        this.targetId = targetId;
+    }
+
+    public void start() {
+        startedAt = new Date();
+        status = Status.RUNNING;
+    }
+
+    public void complete() {
+        finishedAt = new Date();
+        status = Status.COMPLETED;
+    }
+
+    public void fail(String message) {
+        finishedAt = new Date();
+        error = message;
+        status = Status.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    /**
+     * Time spent running, so far if the job is still running.
+     *
+     * @return Duration in milliseconds, or null if the job hasn't started
+     */
+    public Long getDurationMs() {
+        Date start = startedAt;
+        if (start == null) {
+            return null;
+        }
+        Date end = finishedAt;
+        return (end != null ? end.getTime() : System.currentTimeMillis()) -
+        start.getTime();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getTargetId() {
+        return targetId;
+    }
+
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Date getStartedAt() {
+        return startedAt;
+    }
+
+    public Date getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public AtomicLong getBatches() {
+        return batches;
+    }
+
+    public AtomicLong getArticlesDeleted() {
+        return articlesDeleted;
+    }
+
+    public AtomicLong getCommentsDeleted() {
+        return commentsDeleted;
+    }
+
+    public AtomicLong getSubscriptionsRemoved() {
+        return subscriptionsRemoved;
+    }
+
+    public AtomicLong getTimelinesUpdated() {
+        return timelinesUpdated;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.mdd_backend.services.pagination;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Merges several individually sorted lists into one sorted list.
+ *
+ * Keeps one head element per list in a binary heap, so producing the
+ * first {@code limit} elements costs O(limit * log k) for k lists.
+ */
+public final class KWayMerge {
+
+    private KWayMerge() {}
+
+    public static <T> List<T> merge(
+        List<List<T>> sortedRuns,
+        Comparator<? super T> comparator,
+        int limit
+    ) {
+        PriorityQueue<Head<T>> heads = new PriorityQueue<>(
+            Math.max(1, sortedRuns.size()),
+            (a, b) -> comparator.compare(a.value, b.value)
+        );
+        for (List<T> run : sortedRuns) {
+            Iterator<T> iterator = run.iterator();
+            if (iterator.hasNext()) {
+                heads.add(new Head<>(iterator.next(), iterator));
+            }
+        }
+
+        List<T> merged = new ArrayList<>(Math.min(limit, 64));
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Head<T> head = heads.poll();
+            merged.add(head.value);
+            if (head.rest.hasNext()) {
+                heads.add(new Head<>(head.rest.next(), head.rest));
+            }
+        }
+        return merged;
+    }
+
+    private record Head<T>(T value, Iterator<T> rest) {}
+}
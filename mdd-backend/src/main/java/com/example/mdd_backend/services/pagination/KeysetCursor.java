@@ -0,0 +1,60 @@
+package com.example.mdd_backend.services.pagination;
+
+import com.example.mdd_backend.errors.exceptions.ValidationException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Position of the last item of a page, as (createdAt, id), optionally
+ * preceded by a numeric rank when the order starts with another field.
+ *
+ * Sent to clients as an opaque URL-safe token; the next page is read with
+ * a range predicate on these fields instead of skipping documents.
+ */
+public record KeysetCursor(Date createdAt, String id, Long rank) {
+    private static final String SEPARATOR = ":";
+
+    public KeysetCursor(Date createdAt, String id) {
+        this(createdAt, id, null);
+    }
+
+    public String encode() {
+        String raw = createdAt.getTime() + SEPARATOR + id;
+        if (rank != null) {
+            raw += SEPARATOR + rank;
+        }
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously returned by {@link #encode()}.
+     *
+     * @param token Opaque cursor token
+     * @return Decoded cursor
+     * @throws ValidationException If the token is malformed
+     */
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(
+                Base64.getUrlDecoder().decode(token),
+                StandardCharsets.UTF_8
+            );
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (
+                parts.length < 2 || parts.length > 3 || parts[1].isEmpty()
+            ) {
+                throw new IllegalArgumentException("Wrong cursor parts");
+            }
+            return new KeysetCursor(
+                new Date(Long.parseLong(parts[0])),
+                parts[1],
+                parts.length == 3 ? Long.valueOf(parts[2]) : null
+            );
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid cursor: " + token);
+        }
+    }
+}
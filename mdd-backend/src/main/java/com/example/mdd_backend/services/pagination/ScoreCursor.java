@@ -0,0 +1,47 @@
+package com.example.mdd_backend.services.pagination;
+
+import com.example.mdd_backend.errors.exceptions.ValidationException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last item of a page ordered by relevance, as
+ * (score, id).
+ *
+ * Sent to clients as an opaque URL-safe token, like {@link KeysetCursor}.
+ * The score is written in its shortest exact decimal form, so the decoded
+ * value compares equal to the one computed by the database.
+ */
+public record ScoreCursor(double score, String id) {
+    private static final String SEPARATOR = ":";
+
+    public String encode() {
+        String raw = Double.toString(score) + SEPARATOR + id;
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously returned by {@link #encode()}.
+     *
+     * @param token Opaque cursor token
+     * @return Decoded cursor
+     * @throws ValidationException If the token is malformed
+     */
+    public static ScoreCursor decode(String token) {
+        try {
+            String raw = new String(
+                Base64.getUrlDecoder().decode(token),
+                StandardCharsets.UTF_8
+            );
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != 2 || parts[1].isEmpty()) {
+                throw new IllegalArgumentException("Wrong cursor parts");
+            }
+            return new ScoreCursor(Double.parseDouble(parts[0]), parts[1]);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.mdd_backend.services.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Case and diacritics folding, so that "Élise", "elise" and "ELISE"
+ * compare equal.
+ */
+final class Folding {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private Folding() {}
+
+    static String fold(String text) {
+        return DIACRITICS.matcher(
+            Normalizer.normalize(text, Normalizer.Form.NFD)
+        )
+            .replaceAll("")
+            .toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.mdd_backend.services.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Marks the words of a text that match the terms of a full-text query.
+ *
+ * MongoDB's text search doesn't report where a document matched, so the
+ * matches are found again here, approximately: a word matches a term when
+ * it starts with the term's stem, ignoring case and diacritics. The output
+ * is HTML: the text is escaped and each match is wrapped in a
+ * {@code <mark>} element.
+ */
+public final class Highlighter {
+
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final int MIN_STEM_LENGTH = 3;
+    private static final int STRIPPED_SUFFIX_LENGTH = 2;
+    private static final String ELLIPSIS = "…";
+
+    private final List<String> stems;
+
+    private Highlighter(List<String> stems) {
+        this.stems = stems;
+    }
+
+    /**
+     * @param query Full-text query, as sent to {@code $text}. Negated terms
+     *              are not highlighted.
+     */
+    public static Highlighter forQuery(String query) {
+        List<String> stems = new ArrayList<>();
+        for (String token : query.trim().split("\\s+")) {
+            if (token.startsWith("-")) {
+                continue;
+            }
+            Matcher words = WORD.matcher(token);
+            while (words.find()) {
+                String word = Folding.fold(words.group());
+                stems.add(
+                    word.substring(
+                        0,
+                        Math.max(
+                            Math.min(word.length(), MIN_STEM_LENGTH),
+                            word.length() - STRIPPED_SUFFIX_LENGTH
+                        )
+                    )
+                );
+            }
+        }
+        return new Highlighter(stems.stream().distinct().toList());
+    }
+
+    /**
+     * @return The escaped text, with matching words marked
+     */
+    public String highlight(String text) {
+        if (text == null) {
+            return null;
+        }
+        StringBuilder html = new StringBuilder(text.length() + 32);
+        Matcher words = WORD.matcher(text);
+        int last = 0;
+        while (words.find()) {
+            if (matches(words.group())) {
+                escape(text, last, words.start(), html);
+                html.append("<mark>");
+                escape(text, words.start(), words.end(), html);
+                html.append("</mark>");
+                last = words.end();
+            }
+        }
+        escape(text, last, text.length(), html);
+        return html.toString();
+    }
+
+    /**
+     * Cuts a passage of about {@code length} characters around the first
+     * match, on word boundaries, and highlights it.
+     *
+     * @return The highlighted passage, with an ellipsis where the text was
+     *         cut, or the start of the text if no word matches
+     */
+    public String snippet(String text, int length) {
+        if (text == null) {
+            return null;
+        }
+        int first = 0;
+        Matcher words = WORD.matcher(text);
+        while (words.find()) {
+            if (matches(words.group())) {
+                first = words.start();
+                break;
+            }
+        }
+
+        int start = Math.max(0, first - length / 4);
+        if (start > 0) {
+            int space = text.indexOf(' ', start);
+            start = space >= 0 && space < first ? space + 1 : first;
+        }
+        int end = Math.min(text.length(), start + length);
+        if (end < text.length()) {
+            int space = text.lastIndexOf(' ', end);
+            if (space > first) {
+                end = space;
+            } else if (Character.isHighSurrogate(text.charAt(end - 1))) {
+                end--;
+            }
+        }
+
+        return (
+            (start > 0 ? ELLIPSIS : "") +
+            highlight(text.substring(start, end).strip()) +
+            (end < text.length() ? ELLIPSIS : "")
+        );
+    }
+
+    private boolean matches(String word) {
+        String folded = Folding.fold(word);
+        for (String stem : stems) {
+            if (folded.startsWith(stem)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void escape(
+        String text,
+        int from,
+        int to,
+        StringBuilder html
+    ) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> html.append("&amp;");
+                case '<' -> html.append("&lt;");
+                case '>' -> html.append("&gt;");
+                case '"' -> html.append("&quot;");
+                case '\'' -> html.append("&#39;");
+                default -> html.append(c);
+            }
+        }
+    }
+}
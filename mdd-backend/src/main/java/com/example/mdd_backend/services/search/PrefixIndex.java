@@ -0,0 +1,212 @@
+package com.example.mdd_backend.services.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory index of short labels, such as names, looked up by prefix.
+ *
+ * Labels are kept in an array sorted by their folded form (lower case,
+ * without diacritics). A lookup is a binary search for the first label at
+ * or after the prefix, followed by a scan of at most {@code limit} labels,
+ * so it costs O(log n + limit) whatever the number of labels.
+ *
+ * The array is never modified: each update copies it under a lock, in
+ * O(n), and publishes the copy. Lookups read the current array without
+ * locking. Updates are expected to be much rarer than lookups.
+ *
+ * A full reload reads the labels from the database while updates keep
+ * coming in. Calling {@link #beginReplace()} before reading makes the
+ * index record the updates made until {@link #replaceAll(Map)}, which
+ * applies them again on top of the loaded labels, so that a label read
+ * before an update doesn't overwrite it.
+ */
+public final class PrefixIndex {
+
+    /** A label and the ID of the entity it names. */
+    public record Match(String id, String label) {}
+
+    private record Entry(String key, String id, String label) {}
+
+    private static final Comparator<Entry> ORDER = Comparator.comparing(
+        Entry::key
+    ).thenComparing(Entry::id);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Entry[] entries = new Entry[0];
+    /** Current entry of each ID, only accessed under the lock. */
+    private Map<String, Entry> entriesById = new HashMap<>();
+    /**
+     * Labels put or removed (null) since {@link #beginReplace()}, keyed by
+     * ID, or null outside a reload. Only accessed under the lock.
+     */
+    private Map<String, String> changesDuringReplace;
+
+    /**
+     * Starts recording updates, to apply them again on top of the labels
+     * passed to the next {@link #replaceAll(Map)}. Call it before reading
+     * those labels; one reload at a time.
+     */
+    public void beginReplace() {
+        lock.lock();
+        try {
+            changesDuringReplace = new HashMap<>();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Replaces every label of the index, then applies the updates made
+     * since {@link #beginReplace()}, if called.
+     *
+     * @param labelsById Labels keyed by entity ID; null labels are skipped
+     */
+    public void replaceAll(Map<String, String> labelsById) {
+        Map<String, Entry> byId = new HashMap<>();
+        labelsById.forEach((id, label) -> {
+            if (label != null) {
+                byId.put(id, new Entry(Folding.fold(label), id, label));
+            }
+        });
+        Entry[] sorted = byId.values().toArray(Entry[]::new);
+        Arrays.sort(sorted, ORDER);
+
+        lock.lock();
+        try {
+            entriesById = byId;
+            entries = sorted;
+            if (changesDuringReplace != null) {
+                changesDuringReplace.forEach((id, label) -> {
+                    if (label != null) {
+                        doPut(new Entry(Folding.fold(label), id, label));
+                    } else {
+                        doRemove(id);
+                    }
+                });
+                changesDuringReplace = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the label of an entity, replacing its previous label if any.
+     */
+    public void put(String id, String label) {
+        Entry entry = new Entry(Folding.fold(label), id, label);
+        lock.lock();
+        try {
+            if (changesDuringReplace != null) {
+                changesDuringReplace.put(id, label);
+            }
+            doPut(entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the label of an entity, if indexed.
+     */
+    public void remove(String id) {
+        lock.lock();
+        try {
+            if (changesDuringReplace != null) {
+                changesDuringReplace.put(id, null);
+            }
+            doRemove(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param prefix Start of the labels, compared ignoring case and
+     *               diacritics; an empty prefix matches every label
+     * @param limit Maximum number of matches
+     * @return Labels starting with the prefix, in alphabetical order
+     */
+    public List<Match> search(String prefix, int limit) {
+        String key = Folding.fold(prefix);
+        Entry[] snapshot = entries;
+
+        int low = 0;
+        int high = snapshot.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (snapshot[middle].key().compareTo(key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        List<Match> matches = new ArrayList<>(Math.min(limit, 16));
+        for (
+            int i = low;
+            i < snapshot.length &&
+            matches.size() < limit &&
+            snapshot[i].key().startsWith(key);
+            i++
+        ) {
+            matches.add(new Match(snapshot[i].id(), snapshot[i].label()));
+        }
+        return matches;
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    /** Must be called under the lock. */
+    private void doPut(Entry entry) {
+        Entry previous = entriesById.put(entry.id(), entry);
+        if (entry.equals(previous)) {
+            return;
+        }
+        Entry[] current = previous != null
+            ? without(entries, previous)
+            : entries;
+        int insertion = -Arrays.binarySearch(current, entry, ORDER) - 1;
+        Entry[] updated = new Entry[current.length + 1];
+        System.arraycopy(current, 0, updated, 0, insertion);
+        updated[insertion] = entry;
+        System.arraycopy(
+            current,
+            insertion,
+            updated,
+            insertion + 1,
+            current.length - insertion
+        );
+        entries = updated;
+    }
+
+    /** Must be called under the lock. */
+    private void doRemove(String id) {
+        Entry previous = entriesById.remove(id);
+        if (previous != null) {
+            entries = without(entries, previous);
+        }
+    }
+
+    private static Entry[] without(Entry[] current, Entry entry) {
+        int index = Arrays.binarySearch(current, entry, ORDER);
+        Entry[] updated = new Entry[current.length - 1];
+        System.arraycopy(current, 0, updated, 0, index);
+        System.arraycopy(
+            current,
+            index + 1,
+            updated,
+            index,
+            current.length - index - 1
+        );
+        return updated;
+    }
+}
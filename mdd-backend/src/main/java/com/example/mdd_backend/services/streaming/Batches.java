@@ -0,0 +1,48 @@
+package com.example.mdd_backend.services.streaming;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Groups the elements of a stream into fixed-size lists, lazily.
+ */
+public final class Batches {
+
+    private Batches() {}
+
+    /**
+     * Splits a stream into consecutive batches of at most {@code size}
+     * elements. Closing the returned stream closes the source stream.
+     */
+    public static <T> Stream<List<T>> of(Stream<T> source, int size) {
+        Iterator<T> elements = source.iterator();
+        Iterator<List<T>> batches = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return elements.hasNext();
+            }
+
+            @Override
+            public List<T> next() {
+                if (!elements.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<T> batch = new ArrayList<>(size);
+                while (batch.size() < size && elements.hasNext()) {
+                    batch.add(elements.next());
+                }
+                return batch;
+            }
+        };
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED),
+            false
+        ).onClose(source::close);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.mdd_backend;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Base class of the tests that need a disposable MongoDB server.
+ *
+ * The server runs in a Docker container started once for the whole test
+ * run and stopped when the JVM exits: Spring caches and shares one
+ * context between the subclasses, so a container stopped after each test
+ * class would leave the next classes connected to a dead server. Tests
+ * are skipped when Docker isn't available. Query budgets are enforced,
+ * so a request exceeding its budget fails the test.
+ */
+@SpringBootTest(properties = "mdd.mongo.query-budget.enforce=true")
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class AbstractMongoContainerTests {
+
+    @ServiceConnection
+    static final MongoDBContainer mongo = new MongoDBContainer("mongo:7");
+
+    static {
+        if (DockerClientFactory.instance().isDockerAvailable()) {
+            mongo.start();
+        }
+    }
+}
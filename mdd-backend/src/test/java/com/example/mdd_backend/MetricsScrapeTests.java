@@ -0,0 +1,101 @@
+package com.example.mdd_backend;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Sends a few API requests, then scrapes the Prometheus endpoint
+ * anonymously on the management port and checks the request, service,
+ * repository and exception metrics are published. The application port
+ * doesn't serve it without a token.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsScrapeTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Test
+    @WithMockUser
+    void apiMetricsAreScraped() throws Exception {
+        mockMvc.perform(get("/api/topics"));
+        mockMvc
+            .perform(get("/api/autocomplete").param("type", "unknown"))
+            .andExpect(status().isBadRequest());
+
+        ResponseEntity<String> response = restTemplate.getForEntity(
+            "http://localhost:" + managementPort + "/actuator/prometheus",
+            String.class
+        );
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        String scrape = response.getBody();
+
+        assertSeries(
+            scrape,
+            "http_server_requests_seconds_bucket",
+            "uri=\"/api/topics\""
+        );
+        assertSeries(
+            scrape,
+            "mdd_service_seconds_count",
+            "method=\"getAllTopics\""
+        );
+        assertSeries(
+            scrape,
+            "spring_data_repository_invocations_seconds_count",
+            "repository=\"TopicRepository\""
+        );
+        assertSeries(
+            scrape,
+            "mdd_exceptions_total",
+            "exception=\"ValidationException\""
+        );
+    }
+
+    @Test
+    void applicationPortDoesNotServeMetricsAnonymously() {
+        assertEquals(
+            HttpStatus.UNAUTHORIZED,
+            restTemplate
+                .getForEntity("/actuator/prometheus", String.class)
+                .getStatusCode()
+        );
+    }
+
+    private static void assertSeries(
+        String scrape,
+        String name,
+        String label
+    ) {
+        assertTrue(
+            Arrays.stream(scrape.split("\n")).anyMatch(line ->
+                line.startsWith(name + "{") && line.contains(label)
+            ),
+            () -> "No " + name + " series with " + label
+        );
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.mdd_backend;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.mdd_backend.dtos.ArticleCreateRequestDTO;
+import com.example.mdd_backend.dtos.ArticleResponseDTO;
+import com.example.mdd_backend.dtos.CommentCreateRequestDTO;
+import com.example.mdd_backend.dtos.TopicCreateRequestDTO;
+import com.example.mdd_backend.dtos.TopicResponseDTO;
+import com.example.mdd_backend.dtos.UserCreateRequestDTO;
+import com.example.mdd_backend.services.ArticleService;
+import com.example.mdd_backend.services.CommentService;
+import com.example.mdd_backend.services.TopicService;
+import com.example.mdd_backend.services.UserService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+/**
+ * Calls every endpoint declaring a @QueryBudget with budgets enforced, on
+ * enough users, topics, articles and comments for a query per item to
+ * exceed the budget, and checks each one succeeds.
+ */
+@AutoConfigureMockMvc
+class QueryBudgetTests extends AbstractMongoContainerTests {
+
+    private static final int USERS = 3;
+    private static final int TOPICS = 3;
+    private static final int ARTICLES_PER_TOPIC = 2;
+    private static final int COMMENTS = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TopicService topicService;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private CommentService commentService;
+
+    private String suffix;
+    private String email;
+    private String articleId;
+
+    @BeforeEach
+    void createArticles() {
+        suffix = UUID.randomUUID().toString().substring(0, 8);
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            String userEmail = "budget-" + suffix + "-" + i + "@test.io";
+            UserCreateRequestDTO userDTO = new UserCreateRequestDTO();
+            userDTO.setEmail(userEmail);
+            userDTO.setUsername("budget-" + suffix + "-" + i);
+            userDTO.setPassword("password");
+            userService.createUser(userDTO);
+            emails.add(userEmail);
+        }
+        email = emails.get(0);
+
+        for (int i = 0; i < TOPICS; i++) {
+            TopicCreateRequestDTO topicDTO = new TopicCreateRequestDTO();
+            topicDTO.setName("budget-" + suffix + "-" + i);
+            topicDTO.setDescription("Query budget test topic");
+            TopicResponseDTO topic = topicService.createTopic(topicDTO);
+            for (String userEmail : emails) {
+                userService.subscribeUserToTheme(topic.getId(), userEmail);
+            }
+
+            for (int j = 0; j < ARTICLES_PER_TOPIC; j++) {
+                ArticleCreateRequestDTO articleDTO =
+                    new ArticleCreateRequestDTO();
+                articleDTO.setTitle("Budget" + suffix + " article " + j);
+                articleDTO.setContent("Content of budget" + suffix);
+                articleDTO.setTopicId(topic.getId());
+                ArticleResponseDTO article = articleService.createArticle(
+                    articleDTO,
+                    emails.get(j % USERS)
+                );
+                articleId = article.getId();
+
+                for (int k = 0; k < COMMENTS; k++) {
+                    CommentCreateRequestDTO commentDTO =
+                        new CommentCreateRequestDTO();
+                    commentDTO.setContent("Comment " + k);
+                    commentService.createComment(
+                        commentDTO,
+                        articleId,
+                        emails.get(k % USERS)
+                    );
+                }
+            }
+        }
+    }
+
+    @Test
+    void articlePagesStayWithinBudget() throws Exception {
+        for (String sort : new String[] { "date_asc", "most_commented" }) {
+            perform("/api/articles?limit=50&sort=" + sort).andExpect(
+                jsonPath("$.items").isNotEmpty()
+            );
+        }
+    }
+
+    @Test
+    void articleSummariesStayWithinBudget() throws Exception {
+        perform("/api/articles?view=summary&limit=50").andExpect(
+            jsonPath("$.items").isNotEmpty()
+        );
+    }
+
+    @Test
+    void feedStaysWithinBudget() throws Exception {
+        perform("/api/articles/feed").andExpect(
+            jsonPath("$.items.length()").value(TOPICS * ARTICLES_PER_TOPIC)
+        );
+    }
+
+    @Test
+    void searchStaysWithinBudget() throws Exception {
+        perform("/api/articles/search?q=budget" + suffix).andExpect(
+            jsonPath("$.items.length()").value(TOPICS * ARTICLES_PER_TOPIC)
+        );
+    }
+
+    @Test
+    void articleStaysWithinBudget() throws Exception {
+        perform("/api/articles/" + articleId).andExpect(
+            jsonPath("$.id").value(articleId)
+        );
+    }
+
+    @Test
+    void commentPageStaysWithinBudget() throws Exception {
+        perform("/api/comments?articleId=" + articleId).andExpect(
+            jsonPath("$.items.length()").value(COMMENTS)
+        );
+    }
+
+    @Test
+    void currentUserStaysWithinBudget() throws Exception {
+        perform("/api/users/me").andExpect(
+            jsonPath("$.subscriptions.length()").value(TOPICS)
+        );
+    }
+
+    @Test
+    void topicsStayWithinBudget() throws Exception {
+        perform("/api/topics").andExpect(jsonPath("$").isNotEmpty());
+    }
+
+    /**
+     * Sends a request as the first user. An exceeded budget fails it with
+     * a 500 carrying the number of commands sent.
+     */
+    private ResultActions perform(String uri) throws Exception {
+        return mockMvc
+            .perform(get(uri).with(user(email)))
+            .andExpect(status().isOk());
+    }
+}
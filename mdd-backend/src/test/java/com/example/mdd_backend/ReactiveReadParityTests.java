@@ -0,0 +1,146 @@
+package com.example.mdd_backend;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.mdd_backend.dtos.ArticleCreateRequestDTO;
+import com.example.mdd_backend.dtos.ArticleResponseDTO;
+import com.example.mdd_backend.dtos.CommentCreateRequestDTO;
+import com.example.mdd_backend.dtos.TopicCreateRequestDTO;
+import com.example.mdd_backend.dtos.TopicResponseDTO;
+import com.example.mdd_backend.dtos.UserCreateRequestDTO;
+import com.example.mdd_backend.services.ArticleService;
+import com.example.mdd_backend.services.CommentService;
+import com.example.mdd_backend.services.TopicService;
+import com.example.mdd_backend.services.UserService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Reads the same articles and topics through the servlet endpoints and
+ * the reactive ones under /api/rx, and checks the responses are equal,
+ * authors' subscriptions and embedded comments included.
+ */
+@AutoConfigureMockMvc
+@ActiveProfiles("reactive")
+@WithMockUser
+class ReactiveReadParityTests extends AbstractMongoContainerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TopicService topicService;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private CommentService commentService;
+
+    private String articleId;
+
+    @BeforeEach
+    void createArticles() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        String email = "parity-" + suffix + "@test.io";
+        UserCreateRequestDTO userDTO = new UserCreateRequestDTO();
+        userDTO.setEmail(email);
+        userDTO.setUsername("parity-" + suffix);
+        userDTO.setPassword("password");
+        userService.createUser(userDTO);
+
+        TopicCreateRequestDTO topicDTO = new TopicCreateRequestDTO();
+        topicDTO.setName("parity-" + suffix);
+        topicDTO.setDescription("Parity test topic");
+        TopicResponseDTO topic = topicService.createTopic(topicDTO);
+        userService.subscribeUserToTheme(topic.getId(), email);
+
+        for (int i = 0; i < 3; i++) {
+            ArticleCreateRequestDTO articleDTO = new ArticleCreateRequestDTO();
+            articleDTO.setTitle("Parity article " + i);
+            articleDTO.setContent("Content of parity article " + i);
+            articleDTO.setTopicId(topic.getId());
+            ArticleResponseDTO article = articleService.createArticle(
+                articleDTO,
+                email
+            );
+            articleId = article.getId();
+
+            for (int j = 0; j < i; j++) {
+                CommentCreateRequestDTO commentDTO =
+                    new CommentCreateRequestDTO();
+                commentDTO.setContent("Comment " + j);
+                commentService.createComment(commentDTO, articleId, email);
+            }
+        }
+    }
+
+    @Test
+    void articleListsAreEqual() throws Exception {
+        for (String sort : new String[] { "date_asc", "most_commented" }) {
+            assertEquals(
+                servlet("/api/articles?sort=" + sort),
+                reactive("/api/rx/articles?sort=" + sort),
+                sort
+            );
+        }
+    }
+
+    @Test
+    void articlesAreEqual() throws Exception {
+        assertEquals(
+            servlet("/api/articles/" + articleId),
+            reactive("/api/rx/articles/" + articleId)
+        );
+    }
+
+    @Test
+    void topicsAreEqual() throws Exception {
+        assertEquals(servlet("/api/topics"), reactive("/api/rx/topics"));
+    }
+
+    private JsonNode servlet(String uri) throws Exception {
+        return objectMapper.readTree(
+            mockMvc
+                .perform(get(uri))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString()
+        );
+    }
+
+    private JsonNode reactive(String uri) throws Exception {
+        MvcResult started = mockMvc
+            .perform(get(uri))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        return objectMapper.readTree(
+            mockMvc
+                .perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString()
+        );
+    }
+}
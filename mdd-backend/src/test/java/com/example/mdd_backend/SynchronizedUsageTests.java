@@ -0,0 +1,95 @@
+package com.example.mdd_backend;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.springframework.asm.ClassReader;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.SpringAsmInfo;
+
+/**
+ * Checks the compiled application classes for synchronized methods and
+ * blocks.
+ *
+ * On Java 21, a virtual thread that blocks inside a monitor pins its
+ * carrier thread, so code holding a monitor must never wait on Mongo or
+ * another thread. The known uses only guard in-memory updates; any new
+ * one fails this test until it is reviewed and listed here, or replaced
+ * by a java.util.concurrent lock.
+ */
+class SynchronizedUsageTests {
+
+    /** Synchronized sections that never block while holding the monitor. */
+    private static final Set<String> NON_BLOCKING = Set.of(
+        // Job registry updates, the cascade itself runs outside the monitor
+        "com.example.mdd_backend.services.CascadeDeletionService#getJob",
+        "com.example.mdd_backend.services.CascadeDeletionService#getJobs",
+        "com.example.mdd_backend.services.CascadeDeletionService#submit"
+    );
+
+    @Test
+    void onlyReviewedSynchronizedSections() throws Exception {
+        Path classes = Path.of(
+            MddBackendApplication.class
+                .getProtectionDomain()
+                .getCodeSource()
+                .getLocation()
+                .toURI()
+        );
+
+        Set<String> found = new TreeSet<>();
+        try (Stream<Path> files = Files.walk(classes)) {
+            for (Path file : (Iterable<Path>) files
+                .filter(path -> path.toString().endsWith(".class"))::iterator) {
+                found.addAll(synchronizedMethods(file));
+            }
+        }
+
+        assertEquals(new TreeSet<>(NON_BLOCKING), found);
+    }
+
+    private static Set<String> synchronizedMethods(Path classFile)
+        throws IOException {
+        Set<String> methods = new TreeSet<>();
+        try (InputStream in = Files.newInputStream(classFile)) {
+            ClassReader reader = new ClassReader(in);
+            String className = reader.getClassName().replace('/', '.');
+            reader.accept(
+                new ClassVisitor(SpringAsmInfo.ASM_VERSION) {
+                    @Override
+                    public MethodVisitor visitMethod(
+                        int access,
+                        String name,
+                        String descriptor,
+                        String signature,
+                        String[] exceptions
+                    ) {
+                        String method = className + "#" + name;
+                        if ((access & Opcodes.ACC_SYNCHRONIZED) != 0) {
+                            methods.add(method);
+                        }
+                        return new MethodVisitor(SpringAsmInfo.ASM_VERSION) {
+                            @Override
+                            public void visitInsn(int opcode) {
+                                if (opcode == Opcodes.MONITORENTER) {
+                                    methods.add(method);
+                                }
+                            }
+                        };
+                    }
+                },
+                ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES
+            );
+        }
+        return methods;
+    }
+}
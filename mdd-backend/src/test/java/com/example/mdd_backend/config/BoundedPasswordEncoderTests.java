@@ -0,0 +1,141 @@
+package com.example.mdd_backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.mdd_backend.errors.exceptions.ServiceUnavailableException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Checks that rehashing an outdated hash after a login is skipped, and
+ * never fails the login, while the hashing pool is saturated.
+ */
+class BoundedPasswordEncoderTests {
+
+    private static final String PASSWORD = "password";
+    private static final String OUTDATED_HASH = new BCryptPasswordEncoder(4)
+        .encode(PASSWORD);
+
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<String> upgradedHashes = new ArrayList<>();
+
+    BoundedPasswordEncoderTests() {
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(2);
+        executor.initialize();
+    }
+
+    @AfterEach
+    void shutDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void loginUpgradesOutdatedHashWhenIdle() {
+        login(encoder(new BCryptPasswordEncoder(5)));
+
+        assertEquals(1, upgradedHashes.size());
+        assertTrue(
+            new BCryptPasswordEncoder(5).matches(PASSWORD, upgradedHashes.get(0))
+        );
+    }
+
+    @Test
+    void loginSucceedsWithoutUpgradeWhenPoolSaturatedAfterVerification() {
+        // The verification fills the pool as it completes, as concurrent
+        // logins would
+        PasswordEncoder saturating = new BCryptPasswordEncoder(5) {
+            @Override
+            public boolean matches(CharSequence raw, String encoded) {
+                executor.execute(this::block);
+                executor.execute(this::block);
+                return super.matches(raw, encoded);
+            }
+
+            private void block() {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+
+        login(encoder(saturating));
+
+        assertTrue(upgradedHashes.isEmpty());
+    }
+
+    @Test
+    void upgradeHashIsSkippedWhenRejected() {
+        BoundedPasswordEncoder encoder = encoder(new BCryptPasswordEncoder(5));
+        for (int i = 0; i < 3; i++) {
+            executor.execute(this::block);
+        }
+
+        assertFalse(encoder.forLogin().upgradeEncoding(OUTDATED_HASH));
+        assertNull(encoder.forLogin().encode(PASSWORD));
+        assertThrows(ServiceUnavailableException.class, () ->
+            encoder.encode(PASSWORD)
+        );
+    }
+
+    private BoundedPasswordEncoder encoder(PasswordEncoder delegate) {
+        return new BoundedPasswordEncoder(delegate, executor, 1);
+    }
+
+    private void login(BoundedPasswordEncoder encoder) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(email ->
+            User.withUsername(email)
+                .password(OUTDATED_HASH)
+                .authorities("USER")
+                .build()
+        );
+        provider.setPasswordEncoder(encoder.forLogin());
+        provider.setUserDetailsPasswordService(
+            (UserDetails user, String newPassword) -> {
+                if (newPassword != null) {
+                    upgradedHashes.add(newPassword);
+                }
+                return user;
+            }
+        );
+
+        assertTrue(
+            provider
+                .authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                        "user@test.io",
+                        PASSWORD
+                    )
+                )
+                .isAuthenticated()
+        );
+    }
+
+    private void block() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
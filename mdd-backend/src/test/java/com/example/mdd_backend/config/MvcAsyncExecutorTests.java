@@ -0,0 +1,65 @@
+package com.example.mdd_backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Checks that the pool writing streamed responses runs as many streams
+ * at once as it has threads, instead of queueing them behind the first
+ * ones, and rejects those beyond its queue.
+ */
+class MvcAsyncExecutorTests {
+
+    private static final int THREADS = 8;
+    private static final int QUEUE_CAPACITY = 2;
+
+    private final ThreadPoolTaskExecutor executor =
+        new AsyncConfig().mvcAsyncExecutor(false, THREADS, QUEUE_CAPACITY);
+    private final CountDownLatch downloadsEnd = new CountDownLatch(1);
+
+    @AfterEach
+    void shutDown() {
+        downloadsEnd.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void concurrentStreamsAllMakeProgress() throws Exception {
+        CountDownLatch started = new CountDownLatch(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            executor.execute(() -> download(started));
+        }
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void streamsBeyondTheQueueAreRejected() throws Exception {
+        CountDownLatch started = new CountDownLatch(THREADS);
+        for (int i = 0; i < THREADS + QUEUE_CAPACITY; i++) {
+            executor.execute(() -> download(started));
+        }
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertThrows(TaskRejectedException.class, () ->
+            executor.execute(() -> download(started))
+        );
+    }
+
+    /** Holds its thread until the test ends, like a long export. */
+    private void download(CountDownLatch started) {
+        started.countDown();
+        try {
+            downloadsEnd.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
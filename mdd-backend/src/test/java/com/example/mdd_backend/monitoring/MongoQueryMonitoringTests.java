@@ -0,0 +1,197 @@
+package com.example.mdd_backend.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.mdd_backend.errors.exceptions.QueryBudgetExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Checks the per-request command count, its header and metric, the
+ * enforcement of query budgets and the masking of logged filters.
+ */
+class MongoQueryMonitoringTests {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void countIsSentInHeaderAndRecordedByEndpoint() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter().doFilter(request(), response, queries(1));
+
+        assertEquals("1", response.getHeader(MongoQueryCountFilter.HEADER));
+        assertEquals(
+            1.0,
+            registry
+                .get("mdd.mongo.commands.per.request")
+                .tag("uri", "/items")
+                .summary()
+                .totalAmount()
+        );
+    }
+
+    @Test
+    void headerCountsQueriesSentBeforeTheResponseIsCommitted()
+        throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (request, servletResponse) -> {
+            MongoQueryCounter.increment();
+            servletResponse.flushBuffer();
+            MongoQueryCounter.increment();
+        };
+
+        filter().doFilter(request(), response, chain);
+
+        assertEquals("1", response.getHeader(MongoQueryCountFilter.HEADER));
+    }
+
+    @Test
+    void exceededBudgetFailsBeforeTheBodyIsWrittenWhenEnforced()
+        throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (request, servletResponse) -> {
+            queries(3).doFilter(request, servletResponse);
+            writeBody(new QueryBudgetAdvice(true), request);
+        };
+
+        assertThrows(
+            QueryBudgetExceededException.class,
+            () -> filter().doFilter(request(), response, chain)
+        );
+        assertFalse(response.isCommitted());
+    }
+
+    @Test
+    void budgetIsNotCheckedBeforeTheBodyOtherwise() throws Exception {
+        FilterChain chain = (request, servletResponse) -> {
+            queries(3).doFilter(request, servletResponse);
+            writeBody(new QueryBudgetAdvice(false), request);
+        };
+
+        assertDoesNotThrow(() ->
+            filter().doFilter(request(), new MockHttpServletResponse(), chain)
+        );
+    }
+
+    @Test
+    void exceededBudgetIsCounted() {
+        assertDoesNotThrow(() ->
+            filter().doFilter(
+                request(),
+                new MockHttpServletResponse(),
+                queries(3)
+            )
+        );
+        assertEquals(
+            1.0,
+            registry.get("mdd.mongo.query.budget.exceeded").counter().count()
+        );
+    }
+
+    @Test
+    void queriesOutsideRequestsAreIgnored() {
+        assertDoesNotThrow(MongoQueryCounter::increment);
+    }
+
+    @Test
+    void shapeMasksValuesAndKeepsOperators() {
+        BsonDocument find = BsonDocument.parse(
+            "{find: 'users', filter: {email: 'a@b.c', age: {$gt: 3}," +
+            " _id: {$in: [1, 2]}}, limit: 1}"
+        );
+        BsonDocument update = BsonDocument.parse(
+            "{update: 'users', updates: [{q: {email: 'a@b.c'}," +
+            " u: {$set: {username: 'bob'}}}]}"
+        );
+
+        assertEquals(
+            "{\"filter\": {\"email\": \"?\", \"age\": {\"$gt\": \"?\"}," +
+            " \"_id\": {\"$in\": \"?\"}}}",
+            MongoCommandMonitor.shape(find)
+        );
+        assertEquals(
+            "{\"q\": {\"email\": \"?\"}}",
+            MongoCommandMonitor.shape(update)
+        );
+        assertEquals(
+            "",
+            MongoCommandMonitor.shape(BsonDocument.parse("{ping: 1}"))
+        );
+    }
+
+    private MongoQueryCountFilter filter() {
+        return new MongoQueryCountFilter(registry);
+    }
+
+    /** Lets the advice check the body of ItemsController.getItems. */
+    private static void writeBody(
+        QueryBudgetAdvice advice,
+        ServletRequest request
+    ) {
+        MethodParameter returnType = new MethodParameter(
+            ReflectionUtils.findMethod(ItemsController.class, "getItems"),
+            -1
+        );
+        if (advice.supports(returnType, MappingJackson2HttpMessageConverter.class)) {
+            advice.beforeBodyWrite(
+                null,
+                returnType,
+                MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class,
+                new ServletServerHttpRequest((HttpServletRequest) request),
+                null
+            );
+        }
+    }
+
+    private static MockHttpServletRequest request() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(
+            "GET",
+            "/items"
+        );
+        request.setAttribute(
+            HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+            "/items"
+        );
+        request.setAttribute(
+            HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+            new HandlerMethod(
+                new ItemsController(),
+                ItemsController.class.getMethod("getItems")
+            )
+        );
+        return request;
+    }
+
+    private static FilterChain queries(int count) {
+        return (request, response) -> {
+            for (int i = 0; i < count; i++) {
+                MongoQueryCounter.increment();
+            }
+        };
+    }
+
+    static class ItemsController {
+
+        @QueryBudget(2)
+        public void getItems() {}
+    }
+}
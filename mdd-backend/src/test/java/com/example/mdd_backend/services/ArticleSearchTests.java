@@ -0,0 +1,130 @@
+package com.example.mdd_backend.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.mdd_backend.AbstractMongoContainerTests;
+import com.example.mdd_backend.dtos.ArticleSearchHitDTO;
+import com.example.mdd_backend.dtos.CursorPageResponseDTO;
+import com.example.mdd_backend.errors.exceptions.ValidationException;
+import com.example.mdd_backend.models.DBArticle;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * Searches articles sharing a word that no other test uses, and checks
+ * the ranking, topic filter, pagination and highlighting of the hits.
+ */
+class ArticleSearchTests extends AbstractMongoContainerTests {
+
+    @Autowired
+    private ArticleSearchService articleSearchService;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Test
+    void titleMatchesRankFirstAndAreHighlighted() {
+        String word = uniqueWord();
+        String topicId = uniqueWord();
+        DBArticle inContent = save("Unrelated title", "About " + word, topicId);
+        DBArticle inTitle = save("All about " + word, "Unrelated", topicId);
+
+        List<ArticleSearchHitDTO> hits = articleSearchService
+            .search(word, null, null, 10)
+            .getItems();
+
+        assertEquals(
+            List.of(inTitle.getId(), inContent.getId()),
+            hits.stream().map(ArticleSearchHitDTO::getId).toList()
+        );
+        assertTrue(hits.get(0).getScore() > hits.get(1).getScore());
+        assertEquals(
+            "All about <mark>" + word + "</mark>",
+            hits.get(0).getHighlightedTitle()
+        );
+        assertEquals("About <mark>" + word + "</mark>", hits.get(1).getSnippet());
+    }
+
+    @Test
+    void topicFilterKeepsOnlyItsArticles() {
+        String word = uniqueWord();
+        String topicId = uniqueWord();
+        DBArticle inTopic = save("First " + word, "", topicId);
+        save("Second " + word, "", uniqueWord());
+
+        List<ArticleSearchHitDTO> hits = articleSearchService
+            .search(word, topicId, null, 10)
+            .getItems();
+
+        assertEquals(1, hits.size());
+        assertEquals(inTopic.getId(), hits.get(0).getId());
+    }
+
+    @Test
+    void pagesCoverAllHitsOnceByDecreasingScore() {
+        String word = uniqueWord();
+        String topicId = uniqueWord();
+        for (int i = 1; i <= 5; i++) {
+            save((word + " ").repeat(i), "", topicId);
+        }
+
+        List<ArticleSearchHitDTO> hits = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageResponseDTO<ArticleSearchHitDTO> page =
+                articleSearchService.search(word, null, cursor, 2);
+            hits.addAll(page.getItems());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(5, hits.size());
+        assertEquals(
+            5,
+            new HashSet<>(hits.stream().map(ArticleSearchHitDTO::getId).toList())
+                .size()
+        );
+        for (int i = 1; i < hits.size(); i++) {
+            assertTrue(hits.get(i - 1).getScore() >= hits.get(i).getScore());
+        }
+    }
+
+    @Test
+    void noMatchIsAnEmptyLastPage() {
+        CursorPageResponseDTO<ArticleSearchHitDTO> page = articleSearchService
+            .search(uniqueWord(), null, null, 10);
+
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void blankQueryIsRejected() {
+        assertThrows(
+            ValidationException.class,
+            () -> articleSearchService.search("  ", null, null, 10)
+        );
+    }
+
+    private DBArticle save(String title, String content, String topicId) {
+        DBArticle article = new DBArticle();
+        article.setTitle(title);
+        article.setContent(content);
+        article.setTopicId(topicId);
+        article.setCreatedAt(new Date());
+        return mongoTemplate.insert(article);
+    }
+
+    /** A word of letters only, so the text index keeps it as one token. */
+    private static String uniqueWord() {
+        return "w" + UUID.randomUUID().toString().replaceAll("[^a-f]", "");
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.mdd_backend.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import com.example.mdd_backend.dtos.CascadeJobResponseDTO;
+import com.example.mdd_backend.errors.exceptions.BusinessLogicException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * Checks that the job registry stays bounded while an old cascade is
+ * still running, by evicting the finished jobs queued after it.
+ */
+class CascadeJobRetentionTests {
+
+    /** Holds the first cascade forever and rejects the others. */
+    private final List<Runnable> held = new ArrayList<>();
+
+    private final CascadeDeletionService cascadeDeletionService =
+        new CascadeDeletionService(
+            mock(MongoTemplate.class),
+            mock(TimelineService.class),
+            mock(UserCache.class),
+            task -> {
+                if (!held.isEmpty()) {
+                    throw new TaskRejectedException("Queue full");
+                }
+                held.add(task);
+            },
+            500
+        );
+
+    @Test
+    void finishedJobsAreEvictedBehindAPendingOne() {
+        CascadeJobResponseDTO pending =
+            cascadeDeletionService.deleteUserDependents("pending");
+        for (int i = 0; i < 2 * CascadeDeletionService.MAX_RETAINED_JOBS; i++) {
+            String userId = "rejected-" + i;
+            assertThrows(BusinessLogicException.class, () ->
+                cascadeDeletionService.deleteUserDependents(userId)
+            );
+        }
+
+        List<CascadeJobResponseDTO> jobs = cascadeDeletionService.getJobs();
+        assertEquals(CascadeDeletionService.MAX_RETAINED_JOBS, jobs.size());
+        assertEquals(
+            "PENDING",
+            cascadeDeletionService.getJob(pending.getId()).getStatus()
+        );
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.mdd_backend.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.mdd_backend.AbstractMongoContainerTests;
+import com.example.mdd_backend.dtos.TopicCreateRequestDTO;
+import com.example.mdd_backend.dtos.TopicResponseDTO;
+import com.example.mdd_backend.errors.exceptions.ResourceNotFoundException;
+import com.example.mdd_backend.repositories.TopicRepository;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.bson.BsonValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Counts the queries sent to the topics collection to show that topic
+ * lookups are served from memory once the cache is loaded.
+ */
+@Import(TopicServiceCacheTests.TopicQueryCounterConfig.class)
+class TopicServiceCacheTests extends AbstractMongoContainerTests {
+
+    private static final Logger logger = LoggerFactory.getLogger(
+        TopicServiceCacheTests.class
+    );
+
+    private static final int LOOKUPS = 100;
+
+    private static final AtomicInteger topicQueries = new AtomicInteger();
+
+    @TestConfiguration
+    static class TopicQueryCounterConfig {
+
+        @Bean
+        MongoClientSettingsBuilderCustomizer topicQueryCounter() {
+            CommandListener listener = new CommandListener() {
+                @Override
+                public void commandStarted(CommandStartedEvent event) {
+                    BsonValue collection = event
+                        .getCommand()
+                        .get(event.getCommandName());
+                    if (
+                        collection != null &&
+                        collection.isString() &&
+                        "topics".equals(collection.asString().getValue())
+                    ) {
+                        topicQueries.incrementAndGet();
+                    }
+                }
+            };
+            return settings -> settings.addCommandListener(listener);
+        }
+    }
+
+    @Autowired
+    private TopicService topicService;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    private TopicResponseDTO topic;
+
+    @BeforeEach
+    void createTopic() {
+        TopicCreateRequestDTO topicDTO = new TopicCreateRequestDTO();
+        topicDTO.setName("cache-test-" + UUID.randomUUID());
+        topicDTO.setDescription("Topic cache test");
+        topic = topicService.createTopic(topicDTO);
+    }
+
+    @AfterEach
+    void deleteTopic() {
+        if (topicRepository.existsById(topic.getId())) {
+            topicService.deleteTheme(topic.getId());
+        }
+    }
+
+    @Test
+    void topicLookupsAreServedFromMemory() {
+        int repositoryQueries = countQueries(() -> {
+            for (int i = 0; i < LOOKUPS; i++) {
+                topicRepository.findById(topic.getId());
+            }
+        });
+        int cachedQueries = countQueries(() -> {
+            for (int i = 0; i < LOOKUPS; i++) {
+                topicService.getTopicById(topic.getId());
+                topicService.getTopicsByIds(List.of(topic.getId()));
+                topicService.getAllTopics();
+            }
+        });
+
+        logger.info(
+            "Topic queries for {} lookups: repository={}, cache={}",
+            LOOKUPS,
+            repositoryQueries,
+            cachedQueries
+        );
+        assertEquals(LOOKUPS, repositoryQueries);
+        assertEquals(0, cachedQueries);
+
+        topicService.deleteTheme(topic.getId());
+        assertThrows(ResourceNotFoundException.class, () ->
+            topicService.getTopicById(topic.getId())
+        );
+    }
+
+    private static int countQueries(Runnable lookups) {
+        topicQueries.set(0);
+        lookups.run();
+        return topicQueries.get();
+    }
+}
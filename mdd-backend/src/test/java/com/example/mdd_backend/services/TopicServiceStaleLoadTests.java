@@ -0,0 +1,80 @@
+package com.example.mdd_backend.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.mdd_backend.dtos.TopicResponseDTO;
+import com.example.mdd_backend.mapper.HandWrittenDtoMapper;
+import com.example.mdd_backend.models.DBTopic;
+import com.example.mdd_backend.repositories.TopicRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that a topic lookup reading through to Mongo just before the
+ * topic is deleted doesn't cache it again after the deletion.
+ */
+class TopicServiceStaleLoadTests {
+
+    private final TopicRepository topicRepository = mock(TopicRepository.class);
+    private final AutocompleteService autocompleteService =
+        new AutocompleteService(null);
+    private final TopicService topicService = new TopicService(
+        topicRepository,
+        new HandWrittenDtoMapper(),
+        mock(CascadeDeletionService.class),
+        autocompleteService
+    );
+    private final DBTopic topic = new DBTopic();
+
+    TopicServiceStaleLoadTests() {
+        topic.setId("1");
+        topic.setName("java");
+        when(topicRepository.findAll()).thenReturn(List.of());
+    }
+
+    @Test
+    void lookupOverlappingADeletionIsNotCached() {
+        AtomicBoolean deleting = new AtomicBoolean();
+        when(topicRepository.findById("1")).thenAnswer(invocation -> {
+            // The deletion runs after this lookup has read the topic
+            if (deleting.compareAndSet(false, true)) {
+                topicService.deleteTheme("1");
+            }
+            return Optional.of(topic);
+        });
+
+        topicService.getTopicById("1");
+
+        assertTrue(topicService.getAllTopics().isEmpty());
+        assertTrue(
+            autocompleteService.suggest("topic", "", 10).isEmpty()
+        );
+    }
+
+    @Test
+    void bulkLookupOverlappingADeletionIsNotCached() {
+        when(topicRepository.findById("1")).thenReturn(Optional.of(topic));
+        when(topicRepository.findAllById(List.of("1"))).thenAnswer(invocation -> {
+            topicService.deleteTheme("1");
+            return List.of(topic);
+        });
+
+        topicService.getTopicsByIds(List.of("1"));
+
+        assertTrue(topicService.getAllTopics().isEmpty());
+    }
+
+    @Test
+    void lookupWithoutDeletionIsCached() {
+        when(topicRepository.findById("1")).thenReturn(Optional.of(topic));
+
+        TopicResponseDTO found = topicService.getTopicById("1");
+
+        assertEquals(List.of(found), topicService.getAllTopics());
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.mdd_backend.services;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that a registration during a failed login lookup is not hidden
+ * by the unknown identifier mark of that lookup.
+ */
+class UnknownUserCacheTests {
+
+    private final UnknownUserCache cache = new UnknownUserCache(
+        100,
+        Duration.ofSeconds(30)
+    );
+
+    @Test
+    void lookupOverlappingARegistrationDoesNotMarkUnknown() {
+        long generation = cache.generation();
+        cache.forget("new@test.io", "newuser");
+        cache.markUnknown("new@test.io", generation);
+
+        assertFalse(cache.isUnknown("new@test.io"));
+    }
+
+    @Test
+    void lookupWithoutRegistrationMarksUnknown() {
+        cache.markUnknown("nobody@test.io", cache.generation());
+
+        assertTrue(cache.isUnknown("nobody@test.io"));
+
+        cache.forget("nobody@test.io");
+        assertFalse(cache.isUnknown("nobody@test.io"));
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.mdd_backend.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.mdd_backend.dtos.UserResponseDTO;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that a load overlapping an invalidation never leaves the user it
+ * read in the cache.
+ */
+class UserCacheTests {
+
+    private final UserCache cache = new UserCache(
+        100,
+        Duration.ofMinutes(10),
+        false
+    );
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void loadByIdOverlappingAnInvalidationIsNotCached() {
+        cache.getById("1", id -> staleLoad(id, "old@test.io"));
+        UserResponseDTO user = cache.getById("1", id ->
+            load(id, "new@test.io")
+        );
+
+        assertEquals("new@test.io", user.getEmail());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void bulkLoadOverlappingAnInvalidationIsNotCached() {
+        cache.getAllById(List.of("1"), ids ->
+            Map.of("1", staleLoad("1", "old@test.io"))
+        );
+        Map<String, UserResponseDTO> users = cache.getAllById(
+            List.of("1"),
+            ids -> Map.of("1", load("1", "new@test.io"))
+        );
+
+        assertEquals("new@test.io", users.get("1").getEmail());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void loadByEmailOverlappingAnInvalidationIsNotCached() {
+        cache.getByEmail("old@test.io", email -> staleLoad("1", email));
+        cache.getByEmail("old@test.io", email -> null);
+        UserResponseDTO user = cache.getById("1", id ->
+            load(id, "new@test.io")
+        );
+
+        assertEquals("new@test.io", user.getEmail());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void loadWithoutInvalidationIsCached() {
+        cache.getById("1", id -> load(id, "user@test.io"));
+        cache.getById("1", id -> load(id, "user@test.io"));
+        cache.getByEmail("user@test.io", email -> load("1", email));
+
+        assertEquals(1, loads.get());
+    }
+
+    /**
+     * Reads a user, then lets a concurrent write invalidate it before the
+     * load completes.
+     */
+    private UserResponseDTO staleLoad(String id, String email) {
+        UserResponseDTO user = load(id, email);
+        cache.invalidate(id, email);
+        return user;
+    }
+
+    private UserResponseDTO load(String id, String email) {
+        loads.incrementAndGet();
+        UserResponseDTO user = new UserResponseDTO();
+        user.setId(id);
+        user.setEmail(email);
+        user.setUsername("user" + id);
+        user.setSubscriptions(List.of());
+        return user;
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.mdd_backend.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.mdd_backend.AbstractMongoContainerTests;
+import com.example.mdd_backend.dtos.UserCreateRequestDTO;
+import com.example.mdd_backend.errors.exceptions.DuplicateResourceException;
+import com.example.mdd_backend.models.DBUser;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * Registers accounts sharing an email or a username from many threads at
+ * once and checks that exactly one of them is created, the others being
+ * rejected with the message of the index they collide on.
+ */
+class UserRegistrationConcurrencyTests extends AbstractMongoContainerTests {
+
+    private static final int REGISTRATIONS = 16;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Test
+    void sameEmailRegisteredOnce() throws Exception {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        String email = "race-" + suffix + "@test.io";
+
+        List<String> rejections = registerConcurrently(i ->
+            user(email, "race-" + suffix + "-" + i)
+        );
+
+        assertEquals(REGISTRATIONS - 1, rejections.size());
+        assertTrue(rejections.stream().allMatch("Cet email existe déjà"::equals));
+        assertEquals(1, countUsers("email", email));
+    }
+
+    @Test
+    void sameUsernameRegisteredOnce() throws Exception {
+        String username = "race-" + UUID.randomUUID().toString().substring(0, 8);
+
+        List<String> rejections = registerConcurrently(i ->
+            user(username + "-" + i + "@test.io", username)
+        );
+
+        assertEquals(REGISTRATIONS - 1, rejections.size());
+        assertTrue(
+            rejections
+                .stream()
+                .allMatch("Ce nom d'utilisateur existe déjà"::equals)
+        );
+        assertEquals(1, countUsers("username", username));
+    }
+
+    private long countUsers(String field, String value) {
+        return mongoTemplate.count(
+            new Query(Criteria.where(field).is(value)),
+            DBUser.class
+        );
+    }
+
+    private static UserCreateRequestDTO user(String email, String username) {
+        UserCreateRequestDTO userDTO = new UserCreateRequestDTO();
+        userDTO.setEmail(email);
+        userDTO.setUsername(username);
+        userDTO.setPassword("password");
+        return userDTO;
+    }
+
+    /**
+     * Starts all the registrations at the same time and returns the
+     * messages of the rejected ones.
+     */
+    private List<String> registerConcurrently(
+        IntFunction<UserCreateRequestDTO> users
+    ) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(REGISTRATIONS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < REGISTRATIONS; i++) {
+                UserCreateRequestDTO userDTO = users.apply(i);
+                results.add(
+                    executor.submit(() -> {
+                        start.await();
+                        return userService.createUser(userDTO);
+                    })
+                );
+            }
+            start.countDown();
+
+            List<String> rejections = new ArrayList<>();
+            for (Future<?> result : results) {
+                try {
+                    result.get();
+                } catch (ExecutionException e) {
+                    if (!(e.getCause() instanceof DuplicateResourceException)) {
+                        throw e;
+                    }
+                    rejections.add(e.getCause().getMessage());
+                }
+            }
+            return rejections;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.mdd_backend.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.mdd_backend.AbstractMongoContainerTests;
+import com.example.mdd_backend.dtos.TopicCreateRequestDTO;
+import com.example.mdd_backend.dtos.TopicResponseDTO;
+import com.example.mdd_backend.dtos.UserCreateRequestDTO;
+import com.example.mdd_backend.repositories.UserRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Subscribes and unsubscribes the same user from many threads at once
+ * and checks that every update is kept.
+ */
+class UserSubscriptionConcurrencyTests extends AbstractMongoContainerTests {
+
+    private static final int TOPICS = 32;
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TopicService topicService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private String email;
+    private List<String> topicIds;
+
+    @BeforeEach
+    void createUserAndTopics() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        email = "concurrency-" + suffix + "@test.io";
+
+        UserCreateRequestDTO userDTO = new UserCreateRequestDTO();
+        userDTO.setEmail(email);
+        userDTO.setUsername("concurrency-" + suffix);
+        userDTO.setPassword("password");
+        userService.createUser(userDTO);
+
+        topicIds = new ArrayList<>();
+        for (int i = 0; i < TOPICS; i++) {
+            TopicCreateRequestDTO topicDTO = new TopicCreateRequestDTO();
+            topicDTO.setName("concurrency-" + suffix + "-" + i);
+            topicDTO.setDescription("Concurrency test topic " + i);
+            TopicResponseDTO topic = topicService.createTopic(topicDTO);
+            topicIds.add(topic.getId());
+        }
+    }
+
+    @Test
+    void concurrentSubscribesAreAllKept() throws Exception {
+        runConcurrently(
+            topicIds
+                .stream()
+                .map(topicId ->
+                    (Callable<Object>) () ->
+                        userService.subscribeUserToTheme(topicId, email)
+                )
+                .toList()
+        );
+
+        assertEquals(Set.copyOf(topicIds), storedSubscriptions());
+    }
+
+    @Test
+    void concurrentSubscribesAndUnsubscribesAreAllKept() throws Exception {
+        List<String> kept = topicIds.subList(0, TOPICS / 2);
+        List<String> dropped = topicIds.subList(TOPICS / 2, TOPICS);
+        for (String topicId : dropped) {
+            userService.subscribeUserToTheme(topicId, email);
+        }
+
+        for (int round = 0; round < ROUNDS; round++) {
+            List<Callable<Object>> updates = new ArrayList<>();
+            for (String topicId : kept) {
+                updates.add(() -> userService.subscribeUserToTheme(topicId, email));
+            }
+            for (String topicId : dropped) {
+                updates.add(() -> userService.unsuscribeUserToTheme(topicId, email));
+            }
+            runConcurrently(updates);
+
+            assertEquals(Set.copyOf(kept), storedSubscriptions());
+        }
+    }
+
+    private Set<String> storedSubscriptions() {
+        List<String> subscriptions = userRepository
+            .findByEmail(email)
+            .orElseThrow()
+            .getSubscribedTopicIds();
+        assertEquals(
+            new HashSet<>(subscriptions).size(),
+            subscriptions.size(),
+            "duplicate subscriptions"
+        );
+        return Set.copyOf(subscriptions);
+    }
+
+    /** Starts all the updates at the same time and waits for them. */
+    private static void runConcurrently(List<Callable<Object>> updates)
+        throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(updates.size());
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Object>> results = new ArrayList<>();
+            for (Callable<Object> update : updates) {
+                results.add(
+                    executor.submit(() -> {
+                        start.await();
+                        return update.call();
+                    })
+                );
+            }
+            start.countDown();
+            for (Future<Object> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.mdd_backend.services.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks prefix lookups, ordering and updates of the index.
+ */
+class PrefixIndexTests {
+
+    @Test
+    void matchesPrefixIgnoringCaseAndDiacritics() {
+        PrefixIndex index = new PrefixIndex();
+        index.replaceAll(
+            Map.of("1", "Éric", "2", "erika", "3", "Emma", "4", "Eric")
+        );
+
+        assertEquals(
+            List.of("Éric", "Eric", "erika"),
+            labels(index.search("ÉRI", 10))
+        );
+    }
+
+    @Test
+    void returnsAtMostLimitMatchesInAlphabeticalOrder() {
+        PrefixIndex index = new PrefixIndex();
+        index.replaceAll(
+            Map.of("1", "java", "2", "javascript", "3", "jakarta", "4", "go")
+        );
+
+        assertEquals(List.of("jakarta", "java"), labels(index.search("ja", 2)));
+        assertEquals(4, index.search("", 10).size());
+        assertTrue(index.search("python", 10).isEmpty());
+    }
+
+    @Test
+    void putReplacesThePreviousLabelOfAnId() {
+        PrefixIndex index = new PrefixIndex();
+        index.put("1", "alice");
+        index.put("2", "bob");
+        index.put("1", "albert");
+        index.put("2", "bob");
+
+        assertEquals(2, index.size());
+        assertEquals(List.of("albert"), labels(index.search("al", 10)));
+        assertEquals(
+            List.of(new PrefixIndex.Match("1", "albert")),
+            index.search("albert", 10)
+        );
+    }
+
+    @Test
+    void removedIdsNoLongerMatch() {
+        PrefixIndex index = new PrefixIndex();
+        index.replaceAll(Map.of("1", "anna", "2", "anne"));
+        index.remove("1");
+        index.remove("unknown");
+
+        assertEquals(List.of("anne"), labels(index.search("ann", 10)));
+    }
+
+    @Test
+    void sameLabelsAreKeptForDifferentIds() {
+        PrefixIndex index = new PrefixIndex();
+        index.put("2", "Sam");
+        index.put("1", "sam");
+
+        assertEquals(
+            List.of(
+                new PrefixIndex.Match("1", "sam"),
+                new PrefixIndex.Match("2", "Sam")
+            ),
+            index.search("s", 10)
+        );
+    }
+
+    @Test
+    void updatesDuringAReloadAreNotOverwritten() {
+        PrefixIndex index = new PrefixIndex();
+        index.replaceAll(Map.of("1", "alice", "2", "bob"));
+
+        index.beginReplace();
+        index.put("3", "carol");
+        index.put("1", "alicia");
+        index.remove("2");
+        index.replaceAll(Map.of("1", "alice", "2", "bob"));
+
+        assertEquals(
+            List.of("alicia", "carol"),
+            labels(index.search("", 10))
+        );
+
+        index.replaceAll(Map.of("4", "dan"));
+        assertEquals(List.of("dan"), labels(index.search("", 10)));
+    }
+
+    private static List<String> labels(List<PrefixIndex.Match> matches) {
+        return matches.stream().map(PrefixIndex.Match::label).toList();
+    }
+}